@@ -6,28 +6,43 @@ import java.util.Map;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.EnableKafkaRetryTopic;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.retrytopic.RetryTopicSchedulerWrapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.consumer.PendingSendInterceptor;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.enums.ESerializationFormat;
+import br.com.microservices.orchestrated.sagacommons.producer.InFlightLimiter;
 import lombok.RequiredArgsConstructor;
 
 @EnableKafka
+@EnableKafkaRetryTopic
 @Configuration
 @RequiredArgsConstructor
 public class KafkaConfig {
 
-    private static final Integer PARTITIONS_COUNT = 1;
-    private static final Integer REPLICAS_COUNT = 1;
+    private final KafkaTopicProperties topicProperties;
+    private final KafkaProducerProperties producerProperties;
 
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
@@ -38,6 +53,9 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.auto-offset-reset}")
     private String autoOffsetReset;
 
+    @Value("${spring.kafka.serialization.format}")
+    private ESerializationFormat serializationFormat;
+
     @Value("${spring.kafka.topic.inventory-success}")
     private String inventorySuccessTopic;
 
@@ -48,18 +66,57 @@ public class KafkaConfig {
     private String orchestratorTopic;
 
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
+    public EventCodec<Event> eventCodec(ObjectMapper objectMapper) {
+        return new EventCodec<>(objectMapper, serializationFormat, Event.class);
+    }
+
+    @Bean
+    public ConsumerFactory<String, byte[]> consumerFactory() {
         return new DefaultKafkaConsumerFactory<>(consumerProps());
     }
 
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
-        return new DefaultKafkaProducerFactory<>(producerProps());
+    public PendingSendInterceptor<String, byte[]> pendingSendInterceptor() {
+        return new PendingSendInterceptor<>();
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactory(ConsumerFactory<String, byte[]> consumerFactory,
+                                                                                                  PendingSendInterceptor<String, byte[]> pendingSendInterceptor) {
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setRecordInterceptor(pendingSendInterceptor);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setObservationEnabled(true);
+        factory.setContainerCustomizer(container -> container.setConcurrency(
+                topicProperties.getConcurrencyFor(container.getContainerProperties().getTopics())
+        ));
+        return factory;
+    }
+
+    @Bean
+    public ProducerFactory<String, byte[]> producerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerProps(orchestratorTopic));
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> kafkaTemplate(ProducerFactory<String, byte[]> producerFactory) {
+        var kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        kafkaTemplate.setObservationEnabled(true);
+        return kafkaTemplate;
+    }
+
+    @Bean
+    public InFlightLimiter inFlightLimiter() {
+        return new InFlightLimiter(producerProperties.getMaxInFlight(), producerProperties.getMaxBlockMs());
     }
 
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory) {
-        return new KafkaTemplate<>(producerFactory);
+    public RetryTopicSchedulerWrapper retryTopicSchedulerWrapper() {
+        var scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("saga-retry-");
+        scheduler.initialize();
+        return new RetryTopicSchedulerWrapper(scheduler);
     }
 
     @Bean
@@ -83,18 +140,24 @@ public class KafkaConfig {
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
 
         return props;
     }
 
-    private Map<String, Object> producerProps() {
+    private Map<String, Object> producerProps(String topic) {
         var props = new HashMap<String, Object>();
 
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, producerProperties.getIdempotence());
+        props.put(ProducerConfig.ACKS_CONFIG, producerProperties.getAcks());
+        props.put(ProducerConfig.LINGER_MS_CONFIG, producerProperties.getLingerMsFor(topic));
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, producerProperties.getBatchSizeFor(topic));
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, producerProperties.getCompressionTypeFor(topic));
+        props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, producerProperties.getMaxBlockMs());
 
         return props;
     }
@@ -102,8 +165,8 @@ public class KafkaConfig {
     private NewTopic buildTopic(String name) {
         return TopicBuilder
                 .name(name)
-                .replicas(REPLICAS_COUNT)
-                .partitions(PARTITIONS_COUNT)
+                .replicas(topicProperties.getReplicas())
+                .partitions(topicProperties.getPartitionsFor(name))
                 .build();
     }
 
@@ -0,0 +1,64 @@
+package br.com.microservices.orchestrated.inventoryservice.config.kafka;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "spring.kafka.producer-settings")
+public class KafkaProducerProperties {
+
+    private Boolean idempotence = true;
+
+    private String acks = "all";
+
+    private Integer lingerMs = 5;
+
+    private Integer batchSize = 65536;
+
+    private String compressionType = "lz4";
+
+    private Integer maxInFlight = 10000;
+
+    private Long maxBlockMs = 5000L;
+
+    private Map<String, TopicSettings> topics = new HashMap<>();
+
+    public Integer getLingerMsFor(String topic) {
+        return getFor(topic, TopicSettings::getLingerMs, lingerMs);
+    }
+
+    public Integer getBatchSizeFor(String topic) {
+        return getFor(topic, TopicSettings::getBatchSize, batchSize);
+    }
+
+    public String getCompressionTypeFor(String topic) {
+        return getFor(topic, TopicSettings::getCompressionType, compressionType);
+    }
+
+    private <T> T getFor(String topic, Function<TopicSettings, T> getter, T defaultValue) {
+        return Optional
+                .ofNullable(topics.get(topic))
+                .map(getter)
+                .orElse(defaultValue);
+    }
+
+    @Data
+    public static class TopicSettings {
+
+        private Integer lingerMs;
+
+        private Integer batchSize;
+
+        private String compressionType;
+
+    }
+
+}
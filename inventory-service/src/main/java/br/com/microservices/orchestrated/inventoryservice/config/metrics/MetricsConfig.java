@@ -0,0 +1,17 @@
+package br.com.microservices.orchestrated.inventoryservice.config.metrics;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.microservices.orchestrated.sagacommons.metrics.SagaMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public SagaMetrics sagaMetrics(MeterRegistry meterRegistry) {
+        return new SagaMetrics(meterRegistry);
+    }
+
+}
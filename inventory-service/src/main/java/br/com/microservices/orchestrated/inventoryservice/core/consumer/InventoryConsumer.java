@@ -1,39 +1,68 @@
 package br.com.microservices.orchestrated.inventoryservice.core.consumer;
 
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
-import br.com.microservices.orchestrated.inventoryservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.inventoryservice.config.kafka.SagaRetryableTopic;
+import br.com.microservices.orchestrated.inventoryservice.core.service.InventoryService;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.consumer.PendingSendInterceptor;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.logging.SagaEventLogger;
+import br.com.microservices.orchestrated.sagacommons.metrics.SagaMetrics;
+import br.com.microservices.orchestrated.sagacommons.tracing.SagaTracing;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
-@Slf4j
+import static br.com.microservices.orchestrated.sagacommons.tracing.SagaTracing.EVENT_DECODE;
+
 @Component
 @AllArgsConstructor
 public class InventoryConsumer {
 
-    private final JsonUtil jsonUtil;
+    private final EventCodec<Event> eventCodec;
+    private final SagaMetrics sagaMetrics;
+    private final SagaTracing sagaTracing;
+    private final SagaEventLogger sagaEventLogger;
+    private final PendingSendInterceptor<String, byte[]> pendingSendInterceptor;
+    private final InventoryService inventoryService;
 
+    @SagaRetryableTopic
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.inventory-success}"
     )
-    public void consumeSuccessSagaEvent(String payload) {
-        log.info("Receiving success event {} from inventory-validation-success topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeSuccessSagaEvent(byte[] payload, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic, Acknowledgment acknowledgment) {
+        var event = sagaTracing.observe(EVENT_DECODE, topic, () -> eventCodec.decode(payload));
+        sagaEventLogger.received(topic, event);
 
-        log.info(event.toString());
+        sagaMetrics.recordListener(topic, event.getSource(), event.getStatus(), () -> pendingSendInterceptor.acknowledgeWhenSent(inventoryService.updateInventory(event), acknowledgment));
     }
 
+    @SagaRetryableTopic
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.inventory-fail}"
     )
-    public void consumeFailEvent(String payload) {
-        log.info("Receiving rollback event {} from inventory-validation-fail topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeFailEvent(byte[] payload, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic, Acknowledgment acknowledgment) {
+        var event = sagaTracing.observe(EVENT_DECODE, topic, () -> eventCodec.decode(payload));
+        sagaEventLogger.received(topic, event);
+
+        sagaMetrics.recordListener(topic, event.getSource(), event.getStatus(), () -> pendingSendInterceptor.acknowledgeWhenSent(inventoryService.rollbackInventory(event), acknowledgment));
+    }
 
-        log.info(event.toString());
+    @DltHandler
+    public void consumeDeadLetter(@Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                                  @Header(name = KafkaHeaders.RECEIVED_KEY, required = false) String key,
+                                  @Header(name = KafkaHeaders.EXCEPTION_CAUSE_FQCN, required = false) String exception,
+                                  @Header(name = KafkaHeaders.EXCEPTION_MESSAGE, required = false) String message,
+                                  Acknowledgment acknowledgment) {
+        sagaEventLogger.deadLettered(topic, key, exception, message);
+        sagaMetrics.recordDeadLetter(topic, exception);
+        acknowledgment.acknowledge();
     }
 
 }
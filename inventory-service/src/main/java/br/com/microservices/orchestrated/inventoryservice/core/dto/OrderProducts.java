@@ -1,16 +0,0 @@
-package br.com.microservices.orchestrated.inventoryservice.core.dto;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class OrderProducts {
-
-    private Product products;
-    private Long quantity;
-
-
-}
@@ -1,7 +0,0 @@
-package br.com.microservices.orchestrated.inventoryservice.core.enums;
-
-public enum ESagaStatus {
-    SUCCESS,
-    ROLLBACK_PENDING,
-    FAIL
-}
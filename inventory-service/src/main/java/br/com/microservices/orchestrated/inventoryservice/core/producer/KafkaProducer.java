@@ -1,9 +1,15 @@
 package br.com.microservices.orchestrated.inventoryservice.core.producer;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import br.com.microservices.orchestrated.sagacommons.logging.SagaEventLogger;
+import br.com.microservices.orchestrated.sagacommons.metrics.SagaMetrics;
+import br.com.microservices.orchestrated.sagacommons.producer.InFlightLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -12,18 +18,23 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class KafkaProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final SagaMetrics sagaMetrics;
+    private final SagaEventLogger sagaEventLogger;
+    private final InFlightLimiter inFlightLimiter;
 
     @Value("${spring.kafka.topic.orchestrator}")
     private String orchestratorTopic;
 
-    public void sendEvent(String payload) {
-        try {
-            log.info("Sending event to topic {} with data {}", orchestratorTopic, payload);
-            kafkaTemplate.send(orchestratorTopic, payload);
-        } catch (Exception e) {
-            log.error("Error sending event to topic {} with data {}", orchestratorTopic, payload, e);
-        }
+    public CompletableFuture<SendResult<String, byte[]>> sendEvent(String key, byte[] payload) {
+        sagaEventLogger.sent(orchestratorTopic, key, payload.length);
+        return inFlightLimiter
+                .submit(() -> sagaMetrics.recordSend(orchestratorTopic, () -> kafkaTemplate.send(orchestratorTopic, key, payload)))
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("Error sending event to topic {} with key {}", orchestratorTopic, key, e);
+                    }
+                });
     }
 
 }
@@ -0,0 +1,20 @@
+package br.com.microservices.orchestrated.inventoryservice.core.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import br.com.microservices.orchestrated.inventoryservice.core.model.Inventory;
+
+public interface InventoryRepository extends JpaRepository<Inventory, Integer> {
+
+    @Modifying
+    @Query("UPDATE Inventory i SET i.available = i.available - :quantity WHERE i.productCode = :productCode AND i.available >= :quantity")
+    int reserve(@Param("productCode") String productCode, @Param("quantity") Integer quantity);
+
+    @Modifying
+    @Query("UPDATE Inventory i SET i.available = i.available + :quantity WHERE i.productCode = :productCode")
+    int release(@Param("productCode") String productCode, @Param("quantity") Integer quantity);
+
+}
@@ -0,0 +1,20 @@
+package br.com.microservices.orchestrated.inventoryservice.core.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import br.com.microservices.orchestrated.inventoryservice.core.model.OrderInventory;
+
+public interface OrderInventoryRepository extends JpaRepository<OrderInventory, Integer> {
+
+    List<OrderInventory> findByOrderIdAndTransactionIdOrderByProductCode(String orderId, String transactionId);
+
+    @Modifying
+    @Query("UPDATE OrderInventory o SET o.released = true WHERE o.id = :id AND o.released = false")
+    int releaseReservation(@Param("id") Integer id);
+
+}
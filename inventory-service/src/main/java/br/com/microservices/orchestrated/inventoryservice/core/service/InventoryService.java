@@ -0,0 +1,229 @@
+package br.com.microservices.orchestrated.inventoryservice.core.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.microservices.orchestrated.inventoryservice.config.exception.exception.ValidationException;
+import br.com.microservices.orchestrated.inventoryservice.core.model.OrderInventory;
+import br.com.microservices.orchestrated.inventoryservice.core.producer.KafkaProducer;
+import br.com.microservices.orchestrated.inventoryservice.core.repository.InventoryRepository;
+import br.com.microservices.orchestrated.inventoryservice.core.repository.OrderInventoryRepository;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.dto.History;
+import br.com.microservices.orchestrated.sagacommons.dto.OrderProducts;
+import br.com.microservices.orchestrated.sagacommons.enums.EEventSource;
+import br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage.INVENTORY_FAIL;
+import static br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage.INVENTORY_ROLLBACK;
+import static br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage.INVENTORY_ROLLBACK_FAIL;
+import static br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage.INVENTORY_SUCCESS;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.FAIL;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.SUCCESS;
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class InventoryService {
+
+    private static final EEventSource CURRENT_SOURCE = EEventSource.INVENTORY_SERVICE;
+
+    private final EventCodec<Event> eventCodec;
+    private final KafkaProducer kafkaProducer;
+    private final InventoryRepository inventoryRepository;
+    private final OrderInventoryRepository orderInventoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public CompletableFuture<?> updateInventory(Event event) {
+
+        try {
+            validateProductsInformed(event);
+
+            var quantities = getQuantitiesByProductCode(event);
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> reserveInventory(event, quantities));
+            } catch (DataIntegrityViolationException e) {
+                var reservations = findReservations(event);
+
+                if (isReleased(reservations)) {
+                    log.warn("Inventory of transaction {} was already released, dropping the late reservation", event.getTransactionId());
+                    return CompletableFuture.completedFuture(null);
+                }
+
+                if (!matchesExistingReservations(reservations, quantities)) {
+                    log.error("Conflicting inventory reservation for transaction {}, dropping the event", event.getTransactionId());
+                    return CompletableFuture.completedFuture(null);
+                }
+
+                log.info("Inventory already reserved for transaction {}, replaying its outcome", event.getTransactionId());
+            }
+
+            handleSuccess(event);
+        } catch (TransientDataAccessException | DataAccessResourceFailureException | CannotCreateTransactionException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error trying to update inventory: {}", e.getMessage());
+            handleFailCurrentNotExecuted(event, e.getMessage());
+        }
+
+        return kafkaProducer.sendEvent(event.getTransactionId(), eventCodec.encode(event));
+    }
+
+    public CompletableFuture<?> rollbackInventory(Event event) {
+        event.setStatus(FAIL);
+        event.setSource(CURRENT_SOURCE);
+
+        try {
+            try {
+                transactionTemplate.executeWithoutResult(status -> releaseInventory(event));
+            } catch (DataIntegrityViolationException e) {
+                log.info("Inventory of transaction {} was reserved concurrently, releasing it", event.getTransactionId());
+                transactionTemplate.executeWithoutResult(status -> releaseInventory(event));
+            }
+            addHistory(event, INVENTORY_ROLLBACK);
+        } catch (TransientDataAccessException | DataAccessResourceFailureException | CannotCreateTransactionException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error trying to rollback inventory: {}", e.getMessage());
+            addHistory(event, INVENTORY_ROLLBACK_FAIL, e.getMessage());
+        }
+
+        return kafkaProducer.sendEvent(event.getTransactionId(), eventCodec.encode(event));
+    }
+
+    private void reserveInventory(Event event, Map<String, Integer> quantities) {
+        insertReservations(event, quantities, false);
+
+        quantities.forEach((productCode, quantity) -> {
+            if (inventoryRepository.reserve(productCode, quantity) == 0) {
+                throw new ValidationException("Product %s is out of stock or not in inventory".formatted(productCode));
+            }
+        });
+    }
+
+    private void insertReservations(Event event, Map<String, Integer> quantities, Boolean released) {
+        var reservations = quantities
+                .entrySet()
+                .stream()
+                .map(entry -> OrderInventory
+                        .builder()
+                        .orderId(event.getPayload().getId())
+                        .transactionId(event.getTransactionId())
+                        .productCode(entry.getKey())
+                        .orderQuantity(entry.getValue())
+                        .released(released)
+                        .build())
+                .toList();
+
+        orderInventoryRepository.saveAllAndFlush(reservations);
+    }
+
+    private List<OrderInventory> findReservations(Event event) {
+        return orderInventoryRepository.findByOrderIdAndTransactionIdOrderByProductCode(event.getPayload().getId(), event.getTransactionId());
+    }
+
+    private boolean isReleased(List<OrderInventory> reservations) {
+        return reservations
+                .stream()
+                .anyMatch(reservation -> Boolean.TRUE.equals(reservation.getReleased()));
+    }
+
+    private boolean matchesExistingReservations(List<OrderInventory> reservations, Map<String, Integer> quantities) {
+        var reservedQuantities = new TreeMap<String, Integer>();
+        reservations.forEach(reservation -> reservedQuantities.put(reservation.getProductCode(), reservation.getOrderQuantity()));
+
+        return reservedQuantities.equals(quantities);
+    }
+
+    private void releaseInventory(Event event) {
+        var reservations = findReservations(event);
+
+        if (reservations.isEmpty()) {
+            insertReservations(event, getQuantitiesByProductCode(event), true);
+            return;
+        }
+
+        reservations.forEach(reservation -> {
+            if (orderInventoryRepository.releaseReservation(reservation.getId()) > 0) {
+                inventoryRepository.release(reservation.getProductCode(), reservation.getOrderQuantity());
+            }
+        });
+    }
+
+    private Map<String, Integer> getQuantitiesByProductCode(Event event) {
+        var products = event.getPayload().getProducts();
+        products.forEach(this::validateProductInformed);
+
+        var quantities = new TreeMap<String, Integer>();
+        products.forEach(product -> quantities.merge(product.getProduct().getCode(), Math.toIntExact(product.getQuantity()), Math::addExact));
+
+        return quantities;
+    }
+
+    private void handleSuccess(Event event) {
+        event.setStatus(SUCCESS);
+        event.setSource(CURRENT_SOURCE);
+
+        addHistory(event, INVENTORY_SUCCESS);
+    }
+
+    private void handleFailCurrentNotExecuted(Event event, String message) {
+        event.setStatus(ROLLBACK_PENDING);
+        event.setSource(CURRENT_SOURCE);
+
+        addHistory(event, INVENTORY_FAIL, message);
+    }
+
+    private void addHistory(Event event, EHistoryMessage message) {
+        addHistory(event, message, null);
+    }
+
+    private void addHistory(Event event, EHistoryMessage message, String detail) {
+        var history = History
+                .builder()
+                .source(event.getSource())
+                .status(event.getStatus())
+                .message(message)
+                .detail(detail)
+                .createdAt(System.currentTimeMillis())
+                .build();
+
+        event.addToHistory(history);
+    }
+
+    private void validateProductInformed(OrderProducts product) {
+        if (isEmpty(product.getProduct()) || isEmpty(product.getProduct().getCode())) {
+            throw new ValidationException("Product code must be informed");
+        }
+
+        if (isEmpty(product.getQuantity()) || product.getQuantity() <= 0) {
+            throw new ValidationException("Product quantity must be greater than 0");
+        }
+    }
+
+    private void validateProductsInformed(Event event) {
+        if (isEmpty(event.getPayload()) || isEmpty(event.getPayload().getProducts())) {
+            throw new ValidationException("Product List is empty");
+        }
+
+        if (isEmpty(event.getPayload().getId()) || isEmpty(event.getTransactionId())) {
+            throw new ValidationException("OrderID and TransactionID must be informed");
+        }
+    }
+
+}
@@ -0,0 +1,190 @@
+package br.com.microservices.orchestrated.inventoryservice.core.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.microservices.orchestrated.inventoryservice.core.model.OrderInventory;
+import br.com.microservices.orchestrated.inventoryservice.core.producer.KafkaProducer;
+import br.com.microservices.orchestrated.inventoryservice.core.repository.InventoryRepository;
+import br.com.microservices.orchestrated.inventoryservice.core.repository.OrderInventoryRepository;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.dto.Order;
+import br.com.microservices.orchestrated.sagacommons.dto.OrderProducts;
+import br.com.microservices.orchestrated.sagacommons.dto.Product;
+import br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus;
+import br.com.microservices.orchestrated.sagacommons.enums.ESerializationFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InventoryServiceTest {
+
+    private static final String ORDER_ID = "order-1";
+    private static final String TRANSACTION_ID = "tx-1";
+
+    private EventCodec<Event> eventCodec;
+    private KafkaProducer kafkaProducer;
+    private InventoryRepository inventoryRepository;
+    private OrderInventoryRepository orderInventoryRepository;
+    private InventoryService inventoryService;
+
+    @BeforeEach
+    void setUp() {
+        eventCodec = new EventCodec<>(new ObjectMapper().findAndRegisterModules(), ESerializationFormat.SMILE, Event.class);
+        kafkaProducer = mock(KafkaProducer.class);
+        inventoryRepository = mock(InventoryRepository.class);
+        orderInventoryRepository = mock(OrderInventoryRepository.class);
+        inventoryService = new InventoryService(
+                eventCodec,
+                kafkaProducer,
+                inventoryRepository,
+                orderInventoryRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class))
+        );
+
+        when(kafkaProducer.sendEvent(anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    void updateInventoryReservesTheMergedQuantityOfEachProduct() {
+        when(inventoryRepository.reserve("COMIC_BOOKS", 3)).thenReturn(1);
+
+        inventoryService.updateInventory(buildEvent());
+
+        verify(inventoryRepository).reserve("COMIC_BOOKS", 3);
+        assertThat(sentEvent().getStatus()).isEqualTo(ESagaStatus.SUCCESS);
+    }
+
+    @Test
+    void updateInventoryFailsTheStepWhenTheConditionalReserveMatchesNoRow() {
+        when(inventoryRepository.reserve("COMIC_BOOKS", 3)).thenReturn(0);
+
+        inventoryService.updateInventory(buildEvent());
+
+        assertThat(sentEvent().getStatus()).isEqualTo(ESagaStatus.ROLLBACK_PENDING);
+    }
+
+    @Test
+    void updateInventoryReplaysTheSuccessOfARedeliveredReservation() {
+        when(orderInventoryRepository.saveAllAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_order_inventory_transaction_product"));
+        when(orderInventoryRepository.findByOrderIdAndTransactionIdOrderByProductCode(ORDER_ID, TRANSACTION_ID))
+                .thenReturn(List.of(reservation(3)));
+
+        inventoryService.updateInventory(buildEvent());
+
+        verify(inventoryRepository, never()).reserve(anyString(), anyInt());
+        assertThat(sentEvent().getStatus()).isEqualTo(ESagaStatus.SUCCESS);
+    }
+
+    @Test
+    void updateInventoryDropsARedeliveryThatConflictsWithTheStoredReservation() {
+        when(orderInventoryRepository.saveAllAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_order_inventory_transaction_product"));
+        when(orderInventoryRepository.findByOrderIdAndTransactionIdOrderByProductCode(ORDER_ID, TRANSACTION_ID))
+                .thenReturn(List.of(reservation(2)));
+
+        inventoryService.updateInventory(buildEvent());
+
+        verify(kafkaProducer, never()).sendEvent(anyString(), any());
+    }
+
+    @Test
+    void updateInventoryDropsALateReservationOfAReleasedTransaction() {
+        when(orderInventoryRepository.saveAllAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_order_inventory_transaction_product"));
+        when(orderInventoryRepository.findByOrderIdAndTransactionIdOrderByProductCode(ORDER_ID, TRANSACTION_ID))
+                .thenReturn(List.of(reservation(3, true)));
+
+        inventoryService.updateInventory(buildEvent());
+
+        verify(inventoryRepository, never()).reserve(anyString(), anyInt());
+        verify(kafkaProducer, never()).sendEvent(anyString(), any());
+    }
+
+    @Test
+    void rollbackInventoryReleasesOnlyTheReservationsItMarksReleased() {
+        when(orderInventoryRepository.findByOrderIdAndTransactionIdOrderByProductCode(ORDER_ID, TRANSACTION_ID))
+                .thenReturn(List.of(reservation(3, false)));
+        when(orderInventoryRepository.releaseReservation(1)).thenReturn(1, 0);
+
+        inventoryService.rollbackInventory(buildEvent());
+        inventoryService.rollbackInventory(buildEvent());
+
+        verify(inventoryRepository).release("COMIC_BOOKS", 3);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void rollbackInventoryStoresReleasedReservationsWhenTheInventoryWasNotReservedYet() {
+        when(orderInventoryRepository.findByOrderIdAndTransactionIdOrderByProductCode(ORDER_ID, TRANSACTION_ID)).thenReturn(List.of());
+
+        inventoryService.rollbackInventory(buildEvent());
+
+        var tombstones = ArgumentCaptor.forClass(List.class);
+        verify(orderInventoryRepository).saveAllAndFlush(tombstones.capture());
+        assertThat((List<OrderInventory>) tombstones.getValue())
+                .singleElement()
+                .satisfies(tombstone -> {
+                    assertThat(tombstone.getOrderQuantity()).isEqualTo(3);
+                    assertThat(tombstone.getReleased()).isTrue();
+                });
+        verify(inventoryRepository, never()).release(anyString(), anyInt());
+        assertThat(sentEvent().getStatus()).isEqualTo(ESagaStatus.FAIL);
+    }
+
+    private Event sentEvent() {
+        var payload = ArgumentCaptor.forClass(byte[].class);
+        verify(kafkaProducer).sendEvent(eq(TRANSACTION_ID), payload.capture());
+        return eventCodec.decode(payload.getValue());
+    }
+
+    private OrderInventory reservation(Integer quantity) {
+        return reservation(quantity, false);
+    }
+
+    private OrderInventory reservation(Integer quantity, Boolean released) {
+        return OrderInventory
+                .builder()
+                .id(1)
+                .orderId(ORDER_ID)
+                .transactionId(TRANSACTION_ID)
+                .productCode("COMIC_BOOKS")
+                .orderQuantity(quantity)
+                .released(released)
+                .build();
+    }
+
+    private Event buildEvent() {
+        var comicBooks = new Product("COMIC_BOOKS", new BigDecimal("10.00"));
+        var order = Order
+                .builder()
+                .id(ORDER_ID)
+                .transactionId(TRANSACTION_ID)
+                .products(List.of(new OrderProducts(comicBooks, 1L), new OrderProducts(comicBooks, 2L)))
+                .build();
+
+        return Event
+                .builder()
+                .orderId(ORDER_ID)
+                .transactionId(TRANSACTION_ID)
+                .payload(order)
+                .build();
+    }
+
+}
@@ -0,0 +1,97 @@
+package br.com.microservices.orchestrated.loadtest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import br.com.microservices.orchestrated.loadtest.config.LoadTestProperties;
+import br.com.microservices.orchestrated.loadtest.core.LoadReport;
+import br.com.microservices.orchestrated.loadtest.core.NotifyEndingListener;
+import br.com.microservices.orchestrated.loadtest.core.OrderLoadGenerator;
+import br.com.microservices.orchestrated.loadtest.core.SagaCompletionTracker;
+import br.com.microservices.orchestrated.loadtest.infra.EmbeddedInfrastructure;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.enums.ESerializationFormat;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoadTestApplication {
+
+    private static final Duration PROBE_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration PROBE_TIMEOUT = Duration.ofMillis(500);
+
+    public static void main(String[] args) throws Exception {
+        var properties = LoadTestProperties.fromEnvironment();
+        var objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        try (var infrastructure = new EmbeddedInfrastructure()) {
+            if (properties.getEmbedded()) {
+                infrastructure.start();
+            }
+
+            awaitOrderService(properties);
+
+            var tracker = new SagaCompletionTracker();
+            var eventCodec = new EventCodec<>(objectMapper, ESerializationFormat.JSON, Event.class);
+
+            try (var listener = new NotifyEndingListener(properties, eventCodec, tracker)) {
+                if (!listener.start(properties.getStartupTimeout())) {
+                    throw new IllegalStateException("Timed out subscribing to " + properties.getNotifyEndingTopic());
+                }
+
+                var generator = new OrderLoadGenerator(properties, tracker, objectMapper);
+                generator.run();
+                awaitDrain(properties, tracker);
+
+                print(tracker.report(generator.getRequested(), generator.getRequestErrors()));
+            }
+        }
+    }
+
+    private static void awaitOrderService(LoadTestProperties properties) throws InterruptedException {
+        var address = new InetSocketAddress(properties.getOrderUrl().getHost(), properties.getOrderUrl().getPort());
+        var deadline = System.nanoTime() + properties.getStartupTimeout().toNanos();
+
+        log.info("Waiting for order-service at {}", address);
+
+        while (System.nanoTime() < deadline) {
+            try (var socket = new Socket()) {
+                socket.connect(address, (int) PROBE_TIMEOUT.toMillis());
+                return;
+            } catch (IOException e) {
+                TimeUnit.MILLISECONDS.sleep(PROBE_INTERVAL.toMillis());
+            }
+        }
+
+        throw new IllegalStateException("order-service did not become reachable at " + address);
+    }
+
+    private static void awaitDrain(LoadTestProperties properties, SagaCompletionTracker tracker) throws InterruptedException {
+        var deadline = System.nanoTime() + properties.getDrainTimeout().toNanos();
+
+        while (tracker.inFlight() > 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(PROBE_INTERVAL.toMillis());
+        }
+    }
+
+    private static void print(LoadReport report) {
+        log.info("Requested: {} | Request errors: {} | Succeeded: {} | Failed: {} | Incomplete: {}",
+                report.getRequested(), report.getRequestErrors(), report.getSucceeded(), report.getFailed(), report.getIncomplete());
+        log.info("Elapsed: {}s | Throughput: {} sagas/s",
+                String.format("%.2f", report.getElapsedSeconds()), String.format("%.2f", report.getSagasPerSecond()));
+        log.info("Saga latency, rejected requests included (ms) p50: {} | p99: {} | p99.9: {} | max: {}",
+                report.getP50Millis(), report.getP99Millis(), report.getP999Millis(), report.getMaxMillis());
+    }
+
+}
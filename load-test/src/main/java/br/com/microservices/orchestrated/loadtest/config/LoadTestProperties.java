@@ -0,0 +1,50 @@
+package br.com.microservices.orchestrated.loadtest.config;
+
+import java.net.URI;
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Getter
+@Builder
+public class LoadTestProperties {
+
+    private final Integer rate;
+
+    private final Duration duration;
+
+    private final Duration drainTimeout;
+
+    private final Duration startupTimeout;
+
+    private final URI orderUrl;
+
+    private final String bootstrapServers;
+
+    private final String notifyEndingTopic;
+
+    private final Boolean embedded;
+
+    public static LoadTestProperties fromEnvironment() {
+        return LoadTestProperties
+                .builder()
+                .rate(Integer.valueOf(env("LOAD_RATE", "50")))
+                .duration(Duration.ofSeconds(Long.parseLong(env("LOAD_DURATION", "60"))))
+                .drainTimeout(Duration.ofSeconds(Long.parseLong(env("LOAD_DRAIN_TIMEOUT", "30"))))
+                .startupTimeout(Duration.ofSeconds(Long.parseLong(env("LOAD_STARTUP_TIMEOUT", "300"))))
+                .orderUrl(URI.create(env("LOAD_ORDER_URL", "http://localhost:3000/api/order")))
+                .bootstrapServers(env("KAFKA_BROKER", "localhost:9092"))
+                .notifyEndingTopic(env("LOAD_NOTIFY_ENDING_TOPIC", "notify-ending"))
+                .embedded(Boolean.valueOf(env("LOAD_EMBEDDED", "true")))
+                .build();
+    }
+
+    private static String env(String name, String defaultValue) {
+        var value = System.getenv(name);
+        return isEmpty(value) ? defaultValue : value;
+    }
+
+}
@@ -0,0 +1,32 @@
+package br.com.microservices.orchestrated.loadtest.core;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LoadReport {
+
+    private final Long requested;
+
+    private final Long requestErrors;
+
+    private final Long succeeded;
+
+    private final Long failed;
+
+    private final Long incomplete;
+
+    private final Double elapsedSeconds;
+
+    private final Double sagasPerSecond;
+
+    private final Double p50Millis;
+
+    private final Double p99Millis;
+
+    private final Double p999Millis;
+
+    private final Double maxMillis;
+
+}
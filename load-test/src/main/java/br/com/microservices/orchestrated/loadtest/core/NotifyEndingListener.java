@@ -0,0 +1,94 @@
+package br.com.microservices.orchestrated.loadtest.core;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+
+import br.com.microservices.orchestrated.loadtest.config.LoadTestProperties;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class NotifyEndingListener implements Runnable, AutoCloseable {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+
+    private final KafkaConsumer<String, byte[]> consumer;
+    private final LoadTestProperties properties;
+    private final EventCodec<Event> eventCodec;
+    private final SagaCompletionTracker tracker;
+    private final CountDownLatch assigned = new CountDownLatch(1);
+    private final Thread thread = new Thread(this, "notify-ending-listener");
+
+    public NotifyEndingListener(LoadTestProperties properties, EventCodec<Event> eventCodec, SagaCompletionTracker tracker) {
+        this.properties = properties;
+        this.eventCodec = eventCodec;
+        this.tracker = tracker;
+        this.consumer = new KafkaConsumer<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, properties.getBootstrapServers(),
+                ConsumerConfig.GROUP_ID_CONFIG, "load-test-" + UUID.randomUUID(),
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest",
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class
+        ));
+    }
+
+    public boolean start(Duration timeout) throws InterruptedException {
+        thread.start();
+        return assigned.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void run() {
+        try {
+            consumer.subscribe(List.of(properties.getNotifyEndingTopic()), new ConsumerRebalanceListener() {
+                @Override
+                public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                }
+
+                @Override
+                public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+                    assigned.countDown();
+                }
+            });
+
+            while (!Thread.currentThread().isInterrupted()) {
+                var records = consumer.poll(POLL_TIMEOUT);
+                var completedAt = System.nanoTime();
+
+                records.forEach(record -> {
+                    try {
+                        var event = eventCodec.decode(record.value());
+                        tracker.completed(event.getTransactionId(), event.getStatus(), completedAt);
+                    } catch (Exception e) {
+                        log.warn("Ignoring undecodable notify-ending record at offset {}", record.offset(), e);
+                    }
+                });
+            }
+        } catch (WakeupException e) {
+            log.debug("Notify-ending listener stopped");
+        } finally {
+            consumer.close();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        consumer.wakeup();
+        thread.join();
+    }
+
+}
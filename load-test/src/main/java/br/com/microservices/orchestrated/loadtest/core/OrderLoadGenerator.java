@@ -0,0 +1,118 @@
+package br.com.microservices.orchestrated.loadtest.core;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.microservices.orchestrated.loadtest.config.LoadTestProperties;
+import br.com.microservices.orchestrated.sagacommons.dto.Order;
+import br.com.microservices.orchestrated.sagacommons.dto.OrderProducts;
+import br.com.microservices.orchestrated.sagacommons.dto.Product;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class OrderLoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final LoadTestProperties properties;
+    private final SagaCompletionTracker tracker;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final byte[] orderRequest;
+    private final AtomicLong requested = new AtomicLong();
+    private final LongAdder requestErrors = new LongAdder();
+
+    public OrderLoadGenerator(LoadTestProperties properties, SagaCompletionTracker tracker, ObjectMapper objectMapper) throws IOException {
+        this.properties = properties;
+        this.tracker = tracker;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+        this.orderRequest = objectMapper.writeValueAsBytes(Map.of("products", List.of(
+                new OrderProducts(new Product("COMIC_BOOKS", BigDecimal.valueOf(1550, 2)), 3L),
+                new OrderProducts(new Product("BOOKS", BigDecimal.valueOf(990, 2)), 1L)
+        )));
+    }
+
+    public void run() throws InterruptedException {
+        var period = TimeUnit.SECONDS.toNanos(1) / properties.getRate();
+        var origin = System.nanoTime();
+        var scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        scheduler.scheduleAtFixedRate(() -> sendOrder(origin + requested.getAndIncrement() * period), 0, period, TimeUnit.NANOSECONDS);
+
+        log.info("Sending {} orders/s to {} for {}s", properties.getRate(), properties.getOrderUrl(), properties.getDuration().toSeconds());
+        TimeUnit.NANOSECONDS.sleep(properties.getDuration().toNanos());
+
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public Long getRequested() {
+        return requested.get();
+    }
+
+    public Long getRequestErrors() {
+        return requestErrors.sum();
+    }
+
+    private void sendOrder(long intendedStart) {
+        var request = HttpRequest
+                .newBuilder(properties.getOrderUrl())
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(orderRequest))
+                .build();
+
+        httpClient
+                .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, e) -> {
+                    if (e != null) {
+                        log.debug("Error sending order", e);
+                        reject(intendedStart);
+                    } else {
+                        register(response, intendedStart);
+                    }
+                });
+    }
+
+    private void register(HttpResponse<byte[]> response, long intendedStart) {
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            log.debug("Order rejected with status {}", response.statusCode());
+            reject(intendedStart);
+            return;
+        }
+
+        try {
+            var order = objectMapper.readValue(response.body(), Order.class);
+
+            if (order.getTransactionId() == null) {
+                log.debug("Order response without a transactionId");
+                reject(intendedStart);
+                return;
+            }
+
+            tracker.started(order.getTransactionId(), intendedStart);
+        } catch (IOException e) {
+            log.debug("Error reading order response", e);
+            reject(intendedStart);
+        }
+    }
+
+    private void reject(long intendedStart) {
+        requestErrors.increment();
+        tracker.rejected(intendedStart, System.nanoTime());
+    }
+
+}
@@ -0,0 +1,95 @@
+package br.com.microservices.orchestrated.loadtest.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+import br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus;
+
+public class SagaCompletionTracker {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<String, Long> inFlight = new HashMap<>();
+    private final Map<String, Completion> earlyCompletions = new HashMap<>();
+    private final Histogram latencies = new Histogram(SIGNIFICANT_DIGITS);
+
+    private long succeeded;
+    private long failed;
+    private long firstStartedAt = Long.MAX_VALUE;
+    private long lastCompletedAt = Long.MIN_VALUE;
+
+    public synchronized void started(String transactionId, long startedAt) {
+        firstStartedAt = Math.min(firstStartedAt, startedAt);
+
+        var completion = earlyCompletions.remove(transactionId);
+
+        if (completion == null) {
+            inFlight.put(transactionId, startedAt);
+        } else {
+            record(startedAt, completion);
+        }
+    }
+
+    public synchronized void completed(String transactionId, ESagaStatus status, long completedAt) {
+        var completion = new Completion(status, completedAt);
+        var startedAt = inFlight.remove(transactionId);
+
+        if (startedAt == null) {
+            earlyCompletions.put(transactionId, completion);
+        } else {
+            record(startedAt, completion);
+        }
+    }
+
+    public synchronized void rejected(long startedAt, long rejectedAt) {
+        firstStartedAt = Math.min(firstStartedAt, startedAt);
+        recordLatency(startedAt, rejectedAt);
+    }
+
+    public synchronized int inFlight() {
+        return inFlight.size();
+    }
+
+    public synchronized LoadReport report(long requested, long requestErrors) {
+        var completed = succeeded + failed;
+        var elapsedSeconds = completed == 0 ? 0.0 : (lastCompletedAt - firstStartedAt) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        return LoadReport
+                .builder()
+                .requested(requested)
+                .requestErrors(requestErrors)
+                .succeeded(succeeded)
+                .failed(failed)
+                .incomplete((long) inFlight.size())
+                .elapsedSeconds(elapsedSeconds)
+                .sagasPerSecond(elapsedSeconds == 0.0 ? 0.0 : completed / elapsedSeconds)
+                .p50Millis(latencies.getValueAtPercentile(50.0) / MICROS_PER_MILLI)
+                .p99Millis(latencies.getValueAtPercentile(99.0) / MICROS_PER_MILLI)
+                .p999Millis(latencies.getValueAtPercentile(99.9) / MICROS_PER_MILLI)
+                .maxMillis(latencies.getMaxValue() / MICROS_PER_MILLI)
+                .build();
+    }
+
+    private void record(long startedAt, Completion completion) {
+        recordLatency(startedAt, completion.completedAt());
+        lastCompletedAt = Math.max(lastCompletedAt, completion.completedAt());
+
+        if (ESagaStatus.SUCCESS.equals(completion.status())) {
+            succeeded++;
+        } else {
+            failed++;
+        }
+    }
+
+    private void recordLatency(long startedAt, long endedAt) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(Math.max(0, endedAt - startedAt)));
+    }
+
+    private record Completion(ESagaStatus status, long completedAt) {
+    }
+
+}
@@ -0,0 +1,80 @@
+package br.com.microservices.orchestrated.loadtest.infra;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+
+import de.flapdoodle.embed.mongo.config.Net;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import de.flapdoodle.reverse.transitions.Start;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class EmbeddedInfrastructure implements AutoCloseable {
+
+    private static final int KAFKA_PORT = 9092;
+    private static final int KAFKA_PARTITIONS = 3;
+    private static final int MONGO_PORT = 27017;
+    private static final Map<Integer, String> POSTGRES_DATABASES = Map.of(
+            5432, "product-db",
+            5433, "payment-db",
+            5434, "inventory-db"
+    );
+
+    private final List<EmbeddedPostgres> postgres = new ArrayList<>();
+
+    private EmbeddedKafkaBroker kafka;
+    private TransitionWalker.ReachedState<RunningMongodProcess> mongo;
+
+    public void start() throws IOException, SQLException {
+        kafka = new EmbeddedKafkaBroker(1, false, KAFKA_PARTITIONS).kafkaPorts(KAFKA_PORT);
+        kafka.afterPropertiesSet();
+
+        mongo = Mongod
+                .instance()
+                .withNet(Start.to(Net.class).initializedWith(Net.defaults().withPort(MONGO_PORT)))
+                .start(Version.Main.V6_0);
+
+        for (var database : POSTGRES_DATABASES.entrySet()) {
+            postgres.add(startPostgres(database.getKey(), database.getValue()));
+        }
+
+        log.info("Embedded infrastructure ready. Start the services with KAFKA_BROKER={} and MONGO_DB_URI=mongodb://localhost:{}/admin",
+                kafka.getBrokersAsString(), MONGO_PORT);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (var instance : postgres) {
+            instance.close();
+        }
+
+        if (mongo != null) {
+            mongo.close();
+        }
+
+        if (kafka != null) {
+            kafka.destroy();
+        }
+    }
+
+    private EmbeddedPostgres startPostgres(Integer port, String database) throws IOException, SQLException {
+        var instance = EmbeddedPostgres.builder().setPort(port).start();
+
+        try (var connection = instance.getPostgresDatabase().getConnection();
+             var statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE \"" + database + "\"");
+        }
+
+        return instance;
+    }
+
+}
@@ -0,0 +1,57 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import java.util.ArrayList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.enums.EEventSource;
+import br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus;
+import br.com.microservices.orchestrated.sagacommons.metrics.SagaMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Thread)
+public class SagaRoutingBenchmark {
+
+    private SagaExecutionController sagaExecutionController;
+    private Event[] events;
+    private int index;
+
+    @Setup
+    public void setup() {
+        sagaExecutionController = new SagaExecutionController(new SagaMetrics(new SimpleMeterRegistry()));
+
+        var routedEvents = new ArrayList<Event>();
+
+        for (var source : EEventSource.values()) {
+            for (var status : ESagaStatus.values()) {
+                if (SagaHandler.nextTopic(source, status) != null) {
+                    routedEvents.add(Event.builder().source(source).status(status).build());
+                }
+            }
+        }
+
+        events = routedEvents.toArray(Event[]::new);
+    }
+
+    @Benchmark
+    public ETopics nextTopic() {
+        var event = nextEvent();
+        return SagaHandler.nextTopic(event.getSource(), event.getStatus());
+    }
+
+    @Benchmark
+    public ETopics getNextTopic() {
+        return sagaExecutionController.getNextTopic(nextEvent());
+    }
+
+    private Event nextEvent() {
+        index = (index + 1) % events.length;
+        return events[index];
+    }
+
+}
@@ -5,19 +5,40 @@ import java.util.Map;
 
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.RangeAssignor;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.microservices.orchestrated.orchestratorservice.config.exception.exception.ValidationException;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaShardRebalanceListener;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodecException;
+import br.com.microservices.orchestrated.sagacommons.consumer.PendingSendInterceptor;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.enums.ESerializationFormat;
+import br.com.microservices.orchestrated.sagacommons.producer.InFlightLimiter;
 
 import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
 import lombok.RequiredArgsConstructor;
@@ -27,8 +48,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class KafkaConfig {
 
-    private static final Integer PARTITIONS_COUNT = 1;
-    private static final Integer REPLICAS_COUNT = 1;
+    private static final String DLT_SUFFIX = "-dlt";
+
+    private final KafkaTopicProperties topicProperties;
+    private final KafkaProducerProperties producerProperties;
 
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
@@ -39,19 +62,78 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.auto-offset-reset}")
     private String autoOffsetReset;
 
+    @Value("${spring.kafka.serialization.format}")
+    private ESerializationFormat serializationFormat;
+
+    @Value("${spring.kafka.retry.attempts}")
+    private Integer retryAttempts;
+
+    @Value("${spring.kafka.retry.delay-ms}")
+    private Long retryDelayMs;
+
+    @Value("${spring.kafka.retry.multiplier}")
+    private Double retryMultiplier;
+
+    @Value("${spring.kafka.retry.max-delay-ms}")
+    private Long retryMaxDelayMs;
+
+    @Bean
+    public EventCodec<Event> eventCodec(ObjectMapper objectMapper) {
+        return new EventCodec<>(objectMapper, serializationFormat, Event.class);
+    }
+
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
+    public ConsumerFactory<String, byte[]> consumerFactory() {
         return new DefaultKafkaConsumerFactory<>(consumerProps());
     }
 
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
-        return new DefaultKafkaProducerFactory<>(producerProps());
+    public PendingSendInterceptor<String, byte[]> pendingSendInterceptor() {
+        return new PendingSendInterceptor<>();
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactory(ConsumerFactory<String, byte[]> consumerFactory,
+                                                                                                  KafkaTemplate<String, byte[]> kafkaTemplate,
+                                                                                                  SagaShardRebalanceListener sagaShardRebalanceListener,
+                                                                                                  PendingSendInterceptor<String, byte[]> pendingSendInterceptor) {
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setCommonErrorHandler(sagaErrorHandler(kafkaTemplate));
+        factory.setRecordInterceptor(pendingSendInterceptor);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setObservationEnabled(true);
+        factory.getContainerProperties().setConsumerRebalanceListener(sagaShardRebalanceListener);
+        factory.setContainerCustomizer(container -> container.setConcurrency(
+                topicProperties.getConcurrencyFor(container.getContainerProperties().getTopics())
+        ));
+        return factory;
+    }
+
+    @Bean
+    public ProducerFactory<String, byte[]> producerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerProps(null));
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> kafkaTemplate(ProducerFactory<String, byte[]> producerFactory) {
+        return buildKafkaTemplate(producerFactory);
+    }
+
+    @Bean
+    public TopicKafkaTemplates topicKafkaTemplates(KafkaTemplate<String, byte[]> kafkaTemplate) {
+        var topicTemplates = new HashMap<String, KafkaTemplate<String, byte[]>>();
+        producerProperties
+                .getTopics()
+                .keySet()
+                .forEach(topic -> topicTemplates.put(topic, buildKafkaTemplate(new DefaultKafkaProducerFactory<>(producerProps(topic)))));
+
+        return new TopicKafkaTemplates(kafkaTemplate, topicTemplates);
     }
 
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory) {
-        return new KafkaTemplate<>(producerFactory);
+    public InFlightLimiter inFlightLimiter() {
+        return new InFlightLimiter(producerProperties.getMaxInFlight(), producerProperties.getMaxBlockMs());
     }
 
     @Bean
@@ -109,24 +191,75 @@ public class KafkaConfig {
         return buildTopic(ETopics.NOTIFY_ENDING.getTopic());
     }
 
+    @Bean
+    public NewTopic sagaHistoryTopic() {
+        return buildTopic(ETopics.SAGA_HISTORY.getTopic());
+    }
+
+    @Bean
+    public NewTopic sagaStateTopic() {
+        return TopicBuilder
+                .name(ETopics.SAGA_STATE.getTopic())
+                .replicas(topicProperties.getReplicas())
+                .partitions(topicProperties.getPartitionsFor(ETopics.SAGA_STATE.getTopic()))
+                .compact()
+                .build();
+    }
+
+    @Bean
+    public KafkaAdmin.NewTopics sagaDeadLetterTopics() {
+        return new KafkaAdmin.NewTopics(
+                buildDeadLetterTopic(ETopics.START_SAGA.getTopic()),
+                buildDeadLetterTopic(ETopics.BASE_ORCHESTRATOR.getTopic()),
+                buildDeadLetterTopic(ETopics.FINISH_SUCCESS.getTopic()),
+                buildDeadLetterTopic(ETopics.FINISH_FAIL.getTopic())
+        );
+    }
+
     private Map<String, Object> consumerProps() {
         var props = new HashMap<String, Object>();
 
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
+        props.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, RangeAssignor.class.getName());
 
         return props;
     }
 
-    private Map<String, Object> producerProps() {
+    private DefaultErrorHandler sagaErrorHandler(KafkaTemplate<String, byte[]> kafkaTemplate) {
+        var recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, e) -> new TopicPartition(record.topic() + DLT_SUFFIX, record.partition()));
+        var backOff = new ExponentialBackOffWithMaxRetries(retryAttempts - 1);
+        backOff.setInitialInterval(retryDelayMs);
+        backOff.setMultiplier(retryMultiplier);
+        backOff.setMaxInterval(retryMaxDelayMs);
+
+        var errorHandler = new DefaultErrorHandler(recoverer, backOff);
+        errorHandler.addNotRetryableExceptions(EventCodecException.class, ValidationException.class);
+        return errorHandler;
+    }
+
+    private KafkaTemplate<String, byte[]> buildKafkaTemplate(ProducerFactory<String, byte[]> producerFactory) {
+        var kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        kafkaTemplate.setObservationEnabled(true);
+        return kafkaTemplate;
+    }
+
+    private Map<String, Object> producerProps(String topic) {
         var props = new HashMap<String, Object>();
 
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, producerProperties.getIdempotence());
+        props.put(ProducerConfig.ACKS_CONFIG, producerProperties.getAcks());
+        props.put(ProducerConfig.LINGER_MS_CONFIG, producerProperties.getLingerMsFor(topic));
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, producerProperties.getBatchSizeFor(topic));
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, producerProperties.getCompressionTypeFor(topic));
+        props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, producerProperties.getMaxBlockMs());
 
         return props;
     }
@@ -135,8 +268,16 @@ public class KafkaConfig {
     private NewTopic buildTopic(String name) {
         return TopicBuilder
                 .name(name)
-                .replicas(REPLICAS_COUNT)
-                .partitions(PARTITIONS_COUNT)
+                .replicas(topicProperties.getReplicas())
+                .partitions(topicProperties.getPartitionsFor(name))
+                .build();
+    }
+
+    private NewTopic buildDeadLetterTopic(String name) {
+        return TopicBuilder
+                .name(name + DLT_SUFFIX)
+                .replicas(topicProperties.getReplicas())
+                .partitions(topicProperties.getPartitionsFor(name))
                 .build();
     }
 
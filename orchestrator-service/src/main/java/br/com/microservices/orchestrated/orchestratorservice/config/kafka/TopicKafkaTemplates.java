@@ -0,0 +1,47 @@
+package br.com.microservices.orchestrated.orchestratorservice.config.kafka;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+public class TopicKafkaTemplates implements ApplicationContextAware, SmartInitializingSingleton, DisposableBean {
+
+    private final KafkaTemplate<String, byte[]> defaultTemplate;
+    private final Map<String, KafkaTemplate<String, byte[]>> topicTemplates;
+
+    public TopicKafkaTemplates(KafkaTemplate<String, byte[]> defaultTemplate, Map<String, KafkaTemplate<String, byte[]>> topicTemplates) {
+        this.defaultTemplate = defaultTemplate;
+        this.topicTemplates = Map.copyOf(topicTemplates);
+    }
+
+    public KafkaTemplate<String, byte[]> forTopic(String topic) {
+        return topicTemplates.getOrDefault(topic, defaultTemplate);
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        topicTemplates.values().forEach(template -> template.setApplicationContext(applicationContext));
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        topicTemplates.values().forEach(KafkaTemplate::afterSingletonsInstantiated);
+    }
+
+    @Override
+    public void destroy() {
+        topicTemplates.values().forEach(template -> {
+            template.destroy();
+
+            if (template.getProducerFactory() instanceof DefaultKafkaProducerFactory<String, byte[]> producerFactory) {
+                producerFactory.destroy();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,20 @@
+package br.com.microservices.orchestrated.orchestratorservice.config.logging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.microservices.orchestrated.sagacommons.logging.SagaEventLogger;
+
+@Configuration
+public class LoggingConfig {
+
+    @Value("${logging.payload.sample-rate}")
+    private Double payloadSampleRate;
+
+    @Bean
+    public SagaEventLogger sagaEventLogger() {
+        return new SagaEventLogger(payloadSampleRate);
+    }
+
+}
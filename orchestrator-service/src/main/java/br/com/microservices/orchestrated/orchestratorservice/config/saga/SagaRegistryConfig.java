@@ -0,0 +1,106 @@
+package br.com.microservices.orchestrated.orchestratorservice.config.saga;
+
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.microservices.orchestrated.orchestratorservice.config.kafka.KafkaTopicProperties;
+import br.com.microservices.orchestrated.orchestratorservice.config.kafka.TopicKafkaTemplates;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.orchestratorservice.core.producer.SagaOrchestratorProducer;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaRegistry;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaShardRebalanceListener;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaSnapshot;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaStateStore;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.enums.ESerializationFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.BASE_ORCHESTRATOR;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.FINISH_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.FINISH_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.SAGA_STATE;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.START_SAGA;
+
+@Configuration
+@RequiredArgsConstructor
+public class SagaRegistryConfig {
+
+    private final KafkaTopicProperties topicProperties;
+
+    @Value("${spring.kafka.serialization.format}")
+    private ESerializationFormat serializationFormat;
+
+    @Value("${orchestrator.registry.step-timeout-ms}")
+    private Long stepTimeoutMs;
+
+    @Value("${orchestrator.registry.tombstone-ttl-ms}")
+    private Long tombstoneTtlMs;
+
+    @Value("${orchestrator.registry.tick-ms}")
+    private Long tickMs;
+
+    @Value("${orchestrator.registry.wheel-size}")
+    private Integer wheelSize;
+
+    @Value("${orchestrator.registry.wheel-levels}")
+    private Integer wheelLevels;
+
+    @Value("${orchestrator.registry.max-compensation-retries}")
+    private Integer maxCompensationRetries;
+
+    @Value("${orchestrator.registry.rebalance-grace-ms}")
+    private Long rebalanceGraceMs;
+
+    @Value("${orchestrator.registry.restore-poll-ms}")
+    private Long restorePollMs;
+
+    @Bean
+    public EventCodec<SagaSnapshot> sagaSnapshotCodec(ObjectMapper objectMapper) {
+        return new EventCodec<>(objectMapper, serializationFormat, SagaSnapshot.class);
+    }
+
+    @Bean
+    public SagaStateStore sagaStateStore(TopicKafkaTemplates kafkaTemplates,
+                                         ConsumerFactory<String, byte[]> consumerFactory,
+                                         EventCodec<SagaSnapshot> sagaSnapshotCodec) {
+        return new SagaStateStore(kafkaTemplates.forTopic(SAGA_STATE.getTopic()), consumerFactory, sagaSnapshotCodec, shardPartitions(), restorePollMs);
+    }
+
+    @Bean(initMethod = "start")
+    public SagaRegistry sagaRegistry(EventCodec<Event> eventCodec,
+                                     SagaOrchestratorProducer producer,
+                                     SagaStateStore sagaStateStore,
+                                     MeterRegistry meterRegistry) {
+        return new SagaRegistry(eventCodec, producer, sagaStateStore, meterRegistry,
+                stepTimeoutMs, tombstoneTtlMs, tickMs, wheelSize, wheelLevels, maxCompensationRetries, rebalanceGraceMs);
+    }
+
+    @Bean
+    public SagaShardRebalanceListener sagaShardRebalanceListener(SagaRegistry sagaRegistry) {
+        return new SagaShardRebalanceListener(sagaRegistry);
+    }
+
+    private Integer shardPartitions() {
+        var partitions = topicProperties.getPartitionsFor(BASE_ORCHESTRATOR.getTopic());
+        var misaligned = Stream
+                .of(START_SAGA, FINISH_SUCCESS, FINISH_FAIL, SAGA_STATE)
+                .map(ETopics::getTopic)
+                .filter(topic -> !partitions.equals(topicProperties.getPartitionsFor(topic)))
+                .toList();
+
+        if (!misaligned.isEmpty()) {
+            throw new IllegalStateException("Topics " + misaligned + " must have the same partition count as "
+                    + BASE_ORCHESTRATOR.getTopic() + " (" + partitions + ") to shard saga state");
+        }
+        return partitions;
+    }
+
+}
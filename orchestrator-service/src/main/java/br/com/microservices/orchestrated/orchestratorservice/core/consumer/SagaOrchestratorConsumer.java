@@ -1,64 +1,78 @@
 package br.com.microservices.orchestrated.orchestratorservice.core.consumer;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
-import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.orchestratorservice.core.service.OrchestratorService;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.consumer.PendingSendInterceptor;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.logging.SagaEventLogger;
+import br.com.microservices.orchestrated.sagacommons.metrics.SagaMetrics;
+import br.com.microservices.orchestrated.sagacommons.tracing.SagaTracing;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
-@Slf4j
+import static br.com.microservices.orchestrated.sagacommons.tracing.SagaTracing.EVENT_DECODE;
+
 @Component
 @AllArgsConstructor
 public class SagaOrchestratorConsumer {
 
-    private final JsonUtil jsonUtil;
+    private final EventCodec<Event> eventCodec;
+    private final SagaMetrics sagaMetrics;
+    private final SagaTracing sagaTracing;
+    private final SagaEventLogger sagaEventLogger;
+    private final PendingSendInterceptor<String, byte[]> pendingSendInterceptor;
+    private final OrchestratorService orchestratorService;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.start-saga}"
+            topics = {
+                    "${spring.kafka.topic.start-saga}",
+                    "${spring.kafka.topic.orchestrator}",
+                    "${spring.kafka.topic.finish-success}",
+                    "${spring.kafka.topic.finish-fail}"
+            }
     )
-    public void consumeStartSagaEvent(String payload) {
-        log.info("Receiving event {} from start-saga topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeSagaEvent(byte[] payload, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic, Acknowledgment acknowledgment) {
+        var event = sagaTracing.observe(EVENT_DECODE, topic, () -> eventCodec.decode(payload));
+        sagaEventLogger.received(topic, event);
 
-        log.info(event.toString());
+        sagaMetrics.recordListener(topic, event.getSource(), event.getStatus(), () -> pendingSendInterceptor.acknowledgeWhenSent(handle(ETopics.fromTopic(topic), event), acknowledgment));
     }
 
     @KafkaListener(
-            groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.orchestrator}"
+            groupId = "${spring.kafka.consumer.group-id}-dlt",
+            topics = {
+                    "${spring.kafka.topic.start-saga}-dlt",
+                    "${spring.kafka.topic.orchestrator}-dlt",
+                    "${spring.kafka.topic.finish-success}-dlt",
+                    "${spring.kafka.topic.finish-fail}-dlt"
+            }
     )
-    public void consumeOrchestratorEvent(String payload) {
-        log.info("Receiving event {} from orchestrator topic", payload);
-        var event = jsonUtil.toEvent(payload);
-
-        log.info(event.toString());
+    public void consumeDeadLetter(@Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                                  @Header(name = KafkaHeaders.RECEIVED_KEY, required = false) String key,
+                                  @Header(name = KafkaHeaders.EXCEPTION_CAUSE_FQCN, required = false) String exception,
+                                  @Header(name = KafkaHeaders.EXCEPTION_MESSAGE, required = false) String message,
+                                  Acknowledgment acknowledgment) {
+        sagaEventLogger.deadLettered(topic, key, exception, message);
+        sagaMetrics.recordDeadLetter(topic, exception);
+        acknowledgment.acknowledge();
     }
 
-    @KafkaListener(
-            groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.finish-success}"
-    )
-    public void consumeFinishSuccessEvent(String payload) {
-        log.info("Receiving event {} from finish-success topic", payload);
-        var event = jsonUtil.toEvent(payload);
-
-        log.info(event.toString());
+    private CompletableFuture<?> handle(ETopics topic, Event event) {
+        return switch (topic) {
+            case START_SAGA -> orchestratorService.startSaga(event);
+            case FINISH_SUCCESS -> orchestratorService.finishSagaSuccess(event);
+            case FINISH_FAIL -> orchestratorService.finishSagaFail(event);
+            default -> orchestratorService.continueSaga(event);
+        };
     }
 
-    @KafkaListener(
-            groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.finish-fail}"
-    )
-    public void consumeFinishFailEvent(String payload) {
-        log.info("Receiving event {} from finish-fail topic", payload);
-        var event = jsonUtil.toEvent(payload);
-
-        log.info(event.toString());
-    }
-
-
-
-
 }
@@ -1,31 +0,0 @@
-package br.com.microservices.orchestrated.orchestratorservice.core.dto;
-
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.util.List;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@Builder
-@AllArgsConstructor
-@NoArgsConstructor
-public class Order {
-
-    private String id;
-
-    private List<OrderProducts> products;
-
-    private LocalDateTime createdAt;
-
-    private String transactionId;
-
-    private BigDecimal totalAmount;
-
-    private Long totalItems;
-
-
-}
@@ -1,7 +1,6 @@
 package br.com.microservices.orchestrated.orchestratorservice.core.enums;
 
-public enum ESagaStatus {
-    SUCCESS,
-    ROLLBACK_PENDING,
-    FAIL
+public enum EHistoryMode {
+    FULL,
+    DELTA
 }
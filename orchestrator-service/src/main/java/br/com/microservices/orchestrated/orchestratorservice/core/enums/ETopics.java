@@ -1,23 +1,50 @@
 package br.com.microservices.orchestrated.orchestratorservice.core.enums;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import br.com.microservices.orchestrated.sagacommons.enums.EEventSource;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import static br.com.microservices.orchestrated.sagacommons.enums.EEventSource.INVENTORY_SERVICE;
+import static br.com.microservices.orchestrated.sagacommons.enums.EEventSource.PAYMENT_SERVICE;
+import static br.com.microservices.orchestrated.sagacommons.enums.EEventSource.PRODUCT_VALIDATION_SERVICE;
+
 @AllArgsConstructor
 @Getter
 public enum ETopics {
 
-    START_SAGA("start-saga"),
-    BASE_ORCHESTRATOR("orchestrator"),
-    FINISH_SUCCESS("finish-success"),
-    FINISH_FAIL("finish-fail"),
-    PRODUCT_VALIDATION_SUCCESS("product-validation-success"),
-    PRODUCT_VALIDATION_FAIL("product-validation-fail"),
-    PAYMENT_SUCCESS("payment-success"),
-    PAYMENT_FAIL("payment-fail"),
-    INVENTORY_SUCCESS("inventory-success"),
-    INVENTORY_FAIL("inventory-fail"),
-    NOTIFY_ENDING("notify-ending");
+    START_SAGA("start-saga", null),
+    BASE_ORCHESTRATOR("orchestrator", null),
+    FINISH_SUCCESS("finish-success", null),
+    FINISH_FAIL("finish-fail", null),
+    PRODUCT_VALIDATION_SUCCESS("product-validation-success", PRODUCT_VALIDATION_SERVICE),
+    PRODUCT_VALIDATION_FAIL("product-validation-fail", PRODUCT_VALIDATION_SERVICE),
+    PAYMENT_SUCCESS("payment-success", PAYMENT_SERVICE),
+    PAYMENT_FAIL("payment-fail", PAYMENT_SERVICE),
+    INVENTORY_SUCCESS("inventory-success", INVENTORY_SERVICE),
+    INVENTORY_FAIL("inventory-fail", INVENTORY_SERVICE),
+    NOTIFY_ENDING("notify-ending", null),
+    SAGA_HISTORY("saga-history", null),
+    SAGA_STATE("saga-state", null);
+
+    private static final Map<String, ETopics> BY_TOPIC = Arrays
+            .stream(values())
+            .collect(Collectors.toMap(ETopics::getTopic, Function.identity()));
 
     private String topic;
+    private EEventSource source;
+
+    public static ETopics fromTopic(String topic) {
+        var value = BY_TOPIC.get(topic);
+
+        if (value == null) {
+            throw new IllegalArgumentException("Unknown topic " + topic);
+        }
+
+        return value;
+    }
 }
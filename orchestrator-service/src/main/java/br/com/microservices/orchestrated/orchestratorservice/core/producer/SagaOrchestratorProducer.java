@@ -1,9 +1,15 @@
 package br.com.microservices.orchestrated.orchestratorservice.core.producer;
 
-import org.springframework.kafka.core.KafkaTemplate;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import br.com.microservices.orchestrated.orchestratorservice.config.kafka.TopicKafkaTemplates;
 import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.sagacommons.logging.SagaEventLogger;
+import br.com.microservices.orchestrated.sagacommons.metrics.SagaMetrics;
+import br.com.microservices.orchestrated.sagacommons.producer.InFlightLimiter;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -12,15 +18,20 @@ import lombok.extern.slf4j.Slf4j;
 @AllArgsConstructor
 public class SagaOrchestratorProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TopicKafkaTemplates kafkaTemplates;
+    private final SagaMetrics sagaMetrics;
+    private final SagaEventLogger sagaEventLogger;
+    private final InFlightLimiter inFlightLimiter;
 
-    public void sendEvent(String payload, ETopics topic) {
-        try {
-            log.info("Sending event to topic {} with data {}", topic.getTopic(), payload);
-            kafkaTemplate.send(topic.getTopic(), payload);
-        } catch (Exception e) {
-            log.error("Error sending event to topic {} with data {}", topic.getTopic(), payload, e);
-        }
+    public CompletableFuture<SendResult<String, byte[]>> sendEvent(String key, byte[] payload, ETopics topic) {
+        sagaEventLogger.sent(topic.getTopic(), key, payload.length);
+        return inFlightLimiter
+                .submit(() -> sagaMetrics.recordSend(topic.getTopic(), () -> kafkaTemplates.forTopic(topic.getTopic()).send(topic.getTopic(), key, payload)))
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("Error sending event to topic {} with key {}", topic.getTopic(), key, e);
+                    }
+                });
     }
 
 }
@@ -0,0 +1,37 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import org.springframework.stereotype.Component;
+
+import br.com.microservices.orchestrated.orchestratorservice.config.exception.exception.ValidationException;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.metrics.SagaMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaExecutionController {
+
+    private final SagaMetrics sagaMetrics;
+
+    public ETopics getNextTopic(Event event) {
+        if (isEmpty(event.getSource()) || isEmpty(event.getStatus())) {
+            throw new ValidationException("Source and status must be informed.");
+        }
+
+        var topic = SagaHandler.nextTopic(event.getSource(), event.getStatus());
+
+        if (topic == null) {
+            throw new ValidationException("Topic not found for source " + event.getSource() + " and status " + event.getStatus());
+        }
+
+        log.info("SOURCE: {} | STATUS: {} | NEXT TOPIC: {}", event.getSource(), event.getStatus(), topic);
+        sagaMetrics.recordTransition(event.getSource(), event.getStatus(), topic.getTopic());
+        return topic;
+    }
+
+}
@@ -0,0 +1,55 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.sagacommons.enums.EEventSource;
+import br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.FINISH_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.FINISH_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.INVENTORY_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.INVENTORY_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.PAYMENT_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.PAYMENT_SUCCESS;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.PRODUCT_VALIDATION_FAIL;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.PRODUCT_VALIDATION_SUCCESS;
+import static br.com.microservices.orchestrated.sagacommons.enums.EEventSource.INVENTORY_SERVICE;
+import static br.com.microservices.orchestrated.sagacommons.enums.EEventSource.ORCHESTRATOR;
+import static br.com.microservices.orchestrated.sagacommons.enums.EEventSource.PAYMENT_SERVICE;
+import static br.com.microservices.orchestrated.sagacommons.enums.EEventSource.PRODUCT_VALIDATION_SERVICE;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.FAIL;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.SUCCESS;
+
+public final class SagaHandler {
+
+    private static final ETopics[][] TRANSITIONS = new ETopics[EEventSource.values().length][ESagaStatus.values().length];
+
+    static {
+        register(ORCHESTRATOR, SUCCESS, PRODUCT_VALIDATION_SUCCESS);
+        register(ORCHESTRATOR, FAIL, FINISH_FAIL);
+
+        register(PRODUCT_VALIDATION_SERVICE, ROLLBACK_PENDING, PRODUCT_VALIDATION_FAIL);
+        register(PRODUCT_VALIDATION_SERVICE, FAIL, FINISH_FAIL);
+        register(PRODUCT_VALIDATION_SERVICE, SUCCESS, PAYMENT_SUCCESS);
+
+        register(PAYMENT_SERVICE, ROLLBACK_PENDING, PAYMENT_FAIL);
+        register(PAYMENT_SERVICE, FAIL, PRODUCT_VALIDATION_FAIL);
+        register(PAYMENT_SERVICE, SUCCESS, INVENTORY_SUCCESS);
+
+        register(INVENTORY_SERVICE, ROLLBACK_PENDING, INVENTORY_FAIL);
+        register(INVENTORY_SERVICE, FAIL, PAYMENT_FAIL);
+        register(INVENTORY_SERVICE, SUCCESS, FINISH_SUCCESS);
+    }
+
+    private SagaHandler() {
+    }
+
+    public static ETopics nextTopic(EEventSource source, ESagaStatus status) {
+        return TRANSITIONS[source.ordinal()][status.ordinal()];
+    }
+
+    private static void register(EEventSource source, ESagaStatus status, ETopics topic) {
+        TRANSITIONS[source.ordinal()][status.ordinal()] = topic;
+    }
+
+}
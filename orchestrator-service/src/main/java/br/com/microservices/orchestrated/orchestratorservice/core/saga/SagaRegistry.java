@@ -0,0 +1,572 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.orchestratorservice.core.producer.SagaOrchestratorProducer;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.dto.History;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaState.ACTIVE;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaState.COMPENSATING;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaState.COMPLETED;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.BASE_ORCHESTRATOR;
+import static br.com.microservices.orchestrated.sagacommons.enums.EEventSource.ORCHESTRATOR;
+import static br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage.SAGA_STEP_TIMEOUT;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.SUCCESS;
+
+@Slf4j
+public class SagaRegistry implements AutoCloseable {
+
+    public static final String IN_FLIGHT = "saga.registry.in-flight";
+    public static final String TOMBSTONES = "saga.registry.tombstones";
+    public static final String SHARDS = "saga.registry.shards";
+    public static final String TIMEOUTS = "saga.registry.timeouts";
+    public static final String DISCARDED = "saga.registry.discarded";
+    public static final String RESTORED = "saga.registry.restored";
+
+    private static final String DUPLICATE_START = "duplicate-start";
+    private static final String COMPLETED_SAGA = "completed-saga";
+    private static final String LATE_SUCCESS = "late-success";
+    private static final String DUPLICATE_ROLLBACK = "duplicate-rollback";
+    private static final String EXPIRED_WITHOUT_PAYLOAD = "expired-without-payload";
+
+    private final Map<String, SagaEntry> sagas = new ConcurrentHashMap<>();
+    private final Set<Integer> ownedPartitions = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, Suspension> suspendedPartitions = new ConcurrentHashMap<>();
+    private final Map<ESagaState, AtomicLong> stateCounts = new EnumMap<>(ESagaState.class);
+    private final TimingWheel<SagaEntry> timingWheel;
+    private final ScheduledExecutorService ticker;
+    private final EventCodec<Event> eventCodec;
+    private final SagaOrchestratorProducer producer;
+    private final SagaStateStore stateStore;
+    private final MeterRegistry meterRegistry;
+    private final Long stepTimeoutMs;
+    private final Long tombstoneTtlMs;
+    private final Long tickMs;
+    private final Integer maxCompensationRetries;
+    private final Long rebalanceGraceMs;
+
+    public SagaRegistry(EventCodec<Event> eventCodec,
+                        SagaOrchestratorProducer producer,
+                        SagaStateStore stateStore,
+                        MeterRegistry meterRegistry,
+                        Long stepTimeoutMs,
+                        Long tombstoneTtlMs,
+                        Long tickMs,
+                        Integer wheelSize,
+                        Integer wheelLevels,
+                        Integer maxCompensationRetries,
+                        Long rebalanceGraceMs) {
+        this.timingWheel = new TimingWheel<>(tickMs, wheelSize, wheelLevels, System.currentTimeMillis());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "saga-registry-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.eventCodec = eventCodec;
+        this.producer = producer;
+        this.stateStore = stateStore;
+        this.meterRegistry = meterRegistry;
+        this.stepTimeoutMs = stepTimeoutMs;
+        this.tombstoneTtlMs = tombstoneTtlMs;
+        this.tickMs = tickMs;
+        this.maxCompensationRetries = maxCompensationRetries;
+        this.rebalanceGraceMs = rebalanceGraceMs;
+
+        for (var state : ESagaState.values()) {
+            stateCounts.put(state, new AtomicLong());
+        }
+
+        Gauge.builder(IN_FLIGHT, this, registry -> registry.count(ACTIVE) + registry.count(COMPENSATING)).register(meterRegistry);
+        Gauge.builder(TOMBSTONES, this, registry -> registry.count(COMPLETED)).register(meterRegistry);
+        Gauge.builder(SHARDS, ownedPartitions, Set::size).register(meterRegistry);
+    }
+
+    public void start() {
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    public synchronized void assign(Collection<Integer> partitions, int generation) {
+        var resumed = new ArrayList<Integer>();
+        var restored = new ArrayList<Integer>();
+
+        partitions
+                .stream()
+                .filter(partition -> !ownedPartitions.contains(partition))
+                .forEach(partition -> {
+                    var suspension = suspendedPartitions.remove(partition);
+
+                    if (suspension != null && suspension.generation() + 1 == generation) {
+                        resumed.add(partition);
+                        return;
+                    }
+
+                    if (suspension != null) {
+                        drop(List.of(partition));
+                    }
+                    restored.add(partition);
+                });
+
+        resume(resumed);
+        restore(restored);
+    }
+
+    public synchronized void suspend(Collection<Integer> partitions, int generation) {
+        var suspended = partitions
+                .stream()
+                .filter(ownedPartitions::contains)
+                .toList();
+
+        if (suspended.isEmpty()) {
+            return;
+        }
+
+        ownedPartitions.removeAll(suspended);
+        stateStore.flush();
+
+        var now = System.currentTimeMillis();
+        suspended.forEach(partition -> suspendedPartitions.put(partition, new Suspension(generation, now)));
+        log.info("SAGA REGISTRY SUSPENDED PARTITIONS {}", suspended);
+    }
+
+    public synchronized void revoke(Collection<Integer> partitions) {
+        var owned = ownedPartitions.removeAll(partitions);
+        var suspended = partitions
+                .stream()
+                .map(suspendedPartitions::remove)
+                .anyMatch(Objects::nonNull);
+
+        if (!owned && !suspended) {
+            return;
+        }
+
+        stateStore.flush();
+        drop(partitions);
+        log.info("SAGA REGISTRY HANDED OFF PARTITIONS {}", partitions);
+    }
+
+    public boolean acceptStart(Event event) {
+        var duplicate = new boolean[1];
+
+        sagas.compute(event.getTransactionId(), (transactionId, entry) -> {
+            if (entry != null && (entry.step != null || COMPLETED.equals(entry.state))) {
+                duplicate[0] = true;
+                return entry;
+            }
+            return entry != null ? entry : newEntry(transactionId);
+        });
+
+        if (duplicate[0]) {
+            discard(event, DUPLICATE_START);
+        }
+        return !duplicate[0];
+    }
+
+    public boolean accept(Event event) {
+        var reason = new String[1];
+        var write = new StateWrite[1];
+
+        sagas.compute(event.getTransactionId(), (transactionId, entry) -> {
+            var current = entry != null ? entry : newEntry(transactionId);
+
+            if (COMPLETED.equals(current.state)) {
+                reason[0] = COMPLETED_SAGA;
+            } else if (SUCCESS.equals(event.getStatus())) {
+                reason[0] = COMPENSATING.equals(current.state) ? LATE_SUCCESS : null;
+            } else if (ROLLBACK_PENDING.equals(event.getStatus()) && current.rollbackAccepted) {
+                reason[0] = DUPLICATE_ROLLBACK;
+            } else {
+                transition(current, COMPENSATING);
+                current.rollbackAccepted |= ROLLBACK_PENDING.equals(event.getStatus());
+                write[0] = stage(current);
+            }
+            return current;
+        });
+        persist(write[0]);
+
+        if (reason[0] != null) {
+            discard(event, reason[0]);
+        }
+        return reason[0] == null;
+    }
+
+    public void track(String transactionId, ETopics step, byte[] payload) {
+        var write = new StateWrite[1];
+
+        sagas.compute(transactionId, (key, entry) -> {
+            var current = entry != null ? entry : newEntry(key);
+
+            if (COMPLETED.equals(current.state)) {
+                return current;
+            }
+
+            current.cancelTimeout();
+            current.step = step;
+            current.retries = 0;
+            current.rollbackRequested &= !current.rollbackAccepted;
+            current.payload = step.getSource() != null ? payload : null;
+            arm(current, stepTimeoutMs);
+            write[0] = stage(current);
+            return current;
+        });
+        persist(write[0]);
+    }
+
+    public void complete(String transactionId) {
+        var write = new StateWrite[1];
+
+        sagas.compute(transactionId, (key, entry) -> {
+            var current = entry != null ? entry : newEntry(key);
+
+            current.cancelTimeout();
+            transition(current, COMPLETED);
+            current.step = null;
+            current.payload = null;
+            current.rollbackRequested = false;
+            arm(current, tombstoneTtlMs);
+            write[0] = stage(current);
+            return current;
+        });
+        persist(write[0]);
+    }
+
+    public int size() {
+        return sagas.size();
+    }
+
+    private void resume(List<Integer> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+
+        ownedPartitions.addAll(partitions);
+
+        var now = System.currentTimeMillis();
+        sagas.forEach((transactionId, entry) -> {
+            if (partitions.contains(entry.partition)) {
+                sagas.computeIfPresent(transactionId, (key, current) -> {
+                    current.cancelTimeout();
+                    arm(current, Math.max(0, current.deadline - now));
+                    return current;
+                });
+            }
+        });
+        log.info("SAGA REGISTRY RESUMED PARTITIONS {} WITHOUT RESTORING THEM", partitions);
+    }
+
+    private void restore(List<Integer> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+
+        var snapshots = stateStore.restore(partitions);
+        var now = System.currentTimeMillis();
+        snapshots.forEach(snapshot -> sagas.compute(snapshot.getTransactionId(), (transactionId, entry) -> {
+            if (entry != null) {
+                entry.cancelTimeout();
+                removed(entry);
+            }
+            return restoreEntry(snapshot, now);
+        }));
+        ownedPartitions.addAll(partitions);
+
+        Counter
+                .builder(RESTORED)
+                .register(meterRegistry)
+                .increment(snapshots.size());
+        log.info("SAGA REGISTRY RESTORED {} SAGAS FOR PARTITIONS {}", snapshots.size(), partitions);
+    }
+
+    private void drop(Collection<Integer> partitions) {
+        sagas.forEach((transactionId, entry) -> {
+            if (partitions.contains(entry.partition)) {
+                sagas.computeIfPresent(transactionId, (key, current) -> {
+                    current.cancelTimeout();
+                    removed(current);
+                    return null;
+                });
+            }
+        });
+    }
+
+    private synchronized void purgeSuspended(long now) {
+        var expired = suspendedPartitions
+                .entrySet()
+                .stream()
+                .filter(suspension -> suspension.getValue().suspendedAt() + rebalanceGraceMs <= now)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        expired.forEach(suspendedPartitions::remove);
+        drop(expired);
+        log.info("SAGA REGISTRY HANDED OFF PARTITIONS {}", expired);
+    }
+
+    private SagaEntry newEntry(String transactionId) {
+        var entry = new SagaEntry(transactionId, stateStore.partitionFor(transactionId));
+        arm(entry, stepTimeoutMs);
+        stateCounts.get(entry.state).incrementAndGet();
+        return entry;
+    }
+
+    private SagaEntry restoreEntry(SagaSnapshot snapshot, long now) {
+        var entry = new SagaEntry(snapshot.getTransactionId(), stateStore.partitionFor(snapshot.getTransactionId()));
+        entry.state = snapshot.getState();
+        entry.step = snapshot.getStep();
+        entry.payload = snapshot.getPayload();
+        entry.retries = snapshot.getRetries();
+        entry.rollbackAccepted = snapshot.getRollbackAccepted();
+        entry.rollbackRequested = Boolean.TRUE.equals(snapshot.getRollbackRequested());
+        arm(entry, Math.max(0, snapshot.getDeadline() - now));
+        stateCounts.get(entry.state).incrementAndGet();
+        return entry;
+    }
+
+    private void transition(SagaEntry entry, ESagaState state) {
+        if (state.equals(entry.state)) {
+            return;
+        }
+
+        stateCounts.get(entry.state).decrementAndGet();
+        stateCounts.get(state).incrementAndGet();
+        entry.state = state;
+    }
+
+    private void removed(SagaEntry entry) {
+        stateCounts.get(entry.state).decrementAndGet();
+    }
+
+    private void arm(SagaEntry entry, long delayMs) {
+        entry.deadline = System.currentTimeMillis() + delayMs;
+        entry.timeout = timingWheel.schedule(entry, delayMs);
+    }
+
+    private StateWrite stage(SagaEntry entry) {
+        return new StateWrite(entry, ++entry.version, entry.toSnapshot());
+    }
+
+    private StateWrite stageDelete(SagaEntry entry) {
+        return new StateWrite(entry, ++entry.version, null);
+    }
+
+    private void persist(StateWrite write) {
+        if (write == null) {
+            return;
+        }
+
+        synchronized (write.entry()) {
+            if (write.version() <= write.entry().persistedVersion) {
+                return;
+            }
+
+            write.entry().persistedVersion = write.version();
+
+            if (write.snapshot() == null) {
+                stateStore.delete(write.entry().transactionId);
+            } else {
+                stateStore.save(write.snapshot());
+            }
+        }
+    }
+
+    private void tick() {
+        try {
+            var now = System.currentTimeMillis();
+
+            if (!suspendedPartitions.isEmpty()) {
+                purgeSuspended(now);
+            }
+
+            timingWheel
+                    .advance(now)
+                    .forEach(this::expire);
+        } catch (Exception e) {
+            log.error("Error advancing saga registry timing wheel", e);
+        }
+    }
+
+    private void expire(TimingWheel<SagaEntry>.Timeout timeout) {
+        var expired = new SagaSnapshot[1];
+        var write = new StateWrite[1];
+        var withoutPayload = new boolean[1];
+
+        sagas.computeIfPresent(timeout.getValue().transactionId, (transactionId, entry) -> {
+            if (entry.timeout != timeout || !ownedPartitions.contains(entry.partition)) {
+                return entry;
+            }
+
+            if (COMPLETED.equals(entry.state) || entry.payload == null) {
+                withoutPayload[0] = !COMPLETED.equals(entry.state);
+                write[0] = stageDelete(entry);
+                removed(entry);
+                return null;
+            }
+
+            expired[0] = entry.toSnapshot();
+
+            if (COMPENSATING.equals(entry.state) && entry.retries >= maxCompensationRetries) {
+                write[0] = stageDelete(entry);
+                removed(entry);
+                return null;
+            }
+
+            entry.retries += COMPENSATING.equals(entry.state) ? 1 : 0;
+            entry.rollbackRequested |= ACTIVE.equals(entry.state);
+            transition(entry, COMPENSATING);
+            arm(entry, stepTimeoutMs);
+            write[0] = stage(entry);
+            return entry;
+        });
+        persist(write[0]);
+
+        if (withoutPayload[0]) {
+            log.warn("SAGA {} TIMED OUT WITHOUT A PAYLOAD TO COMPENSATE, DROPPING IT", timeout.getValue().transactionId);
+            countDiscard(EXPIRED_WITHOUT_PAYLOAD);
+        }
+
+        if (expired[0] != null) {
+            try {
+                compensate(expired[0]);
+            } catch (Exception e) {
+                log.error("Error compensating timed out saga {} at step {}", expired[0].getTransactionId(), expired[0].getStep().getTopic(), e);
+            }
+        }
+    }
+
+    private void compensate(SagaSnapshot expired) {
+        var transactionId = expired.getTransactionId();
+        var step = expired.getStep();
+
+        Counter
+                .builder(TIMEOUTS)
+                .tag("topic", step.getTopic())
+                .tag("state", expired.getState().name())
+                .register(meterRegistry)
+                .increment();
+
+        if (COMPENSATING.equals(expired.getState()) && expired.getRetries() >= maxCompensationRetries) {
+            log.error("SAGA {} COMPENSATION STEP {} TIMED OUT AFTER {} RETRIES, GIVING UP", transactionId, step.getTopic(), expired.getRetries());
+            return;
+        }
+
+        if (COMPENSATING.equals(expired.getState()) && !Boolean.TRUE.equals(expired.getRollbackRequested())) {
+            log.warn("SAGA {} COMPENSATION STEP {} TIMED OUT, RETRYING", transactionId, step.getTopic());
+            producer.sendEvent(transactionId, expired.getPayload(), step);
+            return;
+        }
+
+        var event = eventCodec.decode(expired.getPayload());
+        event.setSource(step.getSource());
+        event.setStatus(ROLLBACK_PENDING);
+        event.addToHistory(History
+                .builder()
+                .source(ORCHESTRATOR)
+                .status(ROLLBACK_PENDING)
+                .message(SAGA_STEP_TIMEOUT)
+                .detail(step.getTopic())
+                .createdAt(System.currentTimeMillis())
+                .build());
+
+        if (COMPENSATING.equals(expired.getState())) {
+            log.warn("SAGA {} ROLLBACK OF STEP {} NOT STARTED YET, RETRYING", transactionId, step.getTopic());
+        } else {
+            log.warn("SAGA {} STEP {} TIMED OUT, STARTING COMPENSATION", transactionId, step.getTopic());
+        }
+        producer.sendEvent(transactionId, eventCodec.encode(event), BASE_ORCHESTRATOR);
+    }
+
+    private void discard(Event event, String reason) {
+        log.warn("Discarding event {} of saga {} from {} with status {}: {}",
+                event.getId(), event.getTransactionId(), event.getSource(), event.getStatus(), reason);
+        countDiscard(reason);
+    }
+
+    private void countDiscard(String reason) {
+        Counter
+                .builder(DISCARDED)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private long count(ESagaState state) {
+        return stateCounts.get(state).get();
+    }
+
+    private static final class SagaEntry {
+
+        private final String transactionId;
+        private final int partition;
+        private ESagaState state = ACTIVE;
+        private boolean rollbackAccepted;
+        private boolean rollbackRequested;
+        private int retries;
+        private ETopics step;
+        private byte[] payload;
+        private long deadline;
+        private long version;
+        private long persistedVersion;
+        private TimingWheel<SagaEntry>.Timeout timeout;
+
+        private SagaEntry(String transactionId, int partition) {
+            this.transactionId = transactionId;
+            this.partition = partition;
+        }
+
+        private void cancelTimeout() {
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+            }
+        }
+
+        private SagaSnapshot toSnapshot() {
+            return SagaSnapshot
+                    .builder()
+                    .transactionId(transactionId)
+                    .state(state)
+                    .step(step)
+                    .payload(payload)
+                    .retries(retries)
+                    .rollbackAccepted(rollbackAccepted)
+                    .rollbackRequested(rollbackRequested)
+                    .deadline(deadline)
+                    .build();
+        }
+    }
+
+    private record Suspension(int generation, long suspendedAt) {
+    }
+
+    private record StateWrite(SagaEntry entry, long version, SagaSnapshot snapshot) {
+    }
+
+}
@@ -0,0 +1,42 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+
+import lombok.RequiredArgsConstructor;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.BASE_ORCHESTRATOR;
+
+@RequiredArgsConstructor
+public class SagaShardRebalanceListener implements ConsumerAwareRebalanceListener {
+
+    private final SagaRegistry sagaRegistry;
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        sagaRegistry.suspend(shardsOf(partitions), consumer.groupMetadata().generationId());
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        sagaRegistry.revoke(shardsOf(partitions));
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        sagaRegistry.assign(shardsOf(partitions), consumer.groupMetadata().generationId());
+    }
+
+    private List<Integer> shardsOf(Collection<TopicPartition> partitions) {
+        return partitions
+                .stream()
+                .filter(partition -> BASE_ORCHESTRATOR.getTopic().equals(partition.topic()))
+                .map(TopicPartition::partition)
+                .toList();
+    }
+
+}
@@ -1,9 +1,9 @@
-package br.com.microservices.orchestrated.orchestratorservice.core.dto;
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
 
-import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
-import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
-import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,19 +13,23 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Event {
-
-    private String id;
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SagaSnapshot {
 
     private String transactionId;
 
-    private String orderId;
+    private ESagaState state;
+
+    private ETopics step;
+
+    private byte[] payload;
+
+    private Integer retries;
 
-    private Order payload;
+    private Boolean rollbackAccepted;
 
-    private EEventSource source;
+    private Boolean rollbackRequested;
 
-    private ESagaStatus status;
+    private Long deadline;
 
-    private List<History> eventHistory;
 }
@@ -0,0 +1,108 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodecException;
+import lombok.extern.slf4j.Slf4j;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.SAGA_STATE;
+
+@Slf4j
+public class SagaStateStore {
+
+    private static final String RESTORE_CLIENT_ID = "saga-state-restore";
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final EventCodec<SagaSnapshot> snapshotCodec;
+    private final Integer partitions;
+    private final Duration pollTimeout;
+
+    public SagaStateStore(KafkaTemplate<String, byte[]> kafkaTemplate,
+                          ConsumerFactory<String, byte[]> consumerFactory,
+                          EventCodec<SagaSnapshot> snapshotCodec,
+                          Integer partitions,
+                          Long pollTimeoutMs) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.consumerFactory = consumerFactory;
+        this.snapshotCodec = snapshotCodec;
+        this.partitions = partitions;
+        this.pollTimeout = Duration.ofMillis(pollTimeoutMs);
+    }
+
+    public int partitionFor(String transactionId) {
+        return Utils.toPositive(Utils.murmur2(transactionId.getBytes(StandardCharsets.UTF_8))) % partitions;
+    }
+
+    public void save(SagaSnapshot snapshot) {
+        send(snapshot.getTransactionId(), snapshotCodec.encode(snapshot));
+    }
+
+    public void delete(String transactionId) {
+        send(transactionId, null);
+    }
+
+    public void flush() {
+        kafkaTemplate.flush();
+    }
+
+    public List<SagaSnapshot> restore(Collection<Integer> partitionIds) {
+        var topicPartitions = partitionIds
+                .stream()
+                .map(partition -> new TopicPartition(SAGA_STATE.getTopic(), partition))
+                .toList();
+        var restored = new LinkedHashMap<String, byte[]>();
+        var props = new Properties();
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        try (var consumer = consumerFactory.createConsumer(null, RESTORE_CLIENT_ID, null, props)) {
+            consumer.assign(topicPartitions);
+            consumer.seekToBeginning(topicPartitions);
+            var endOffsets = consumer.endOffsets(topicPartitions);
+
+            while (topicPartitions.stream().anyMatch(partition -> consumer.position(partition) < endOffsets.get(partition))) {
+                consumer.poll(pollTimeout).forEach(record -> {
+                    if (record.value() == null) {
+                        restored.remove(record.key());
+                    } else {
+                        restored.put(record.key(), record.value());
+                    }
+                });
+            }
+        }
+
+        var snapshots = new ArrayList<SagaSnapshot>(restored.size());
+        restored.forEach((transactionId, value) -> {
+            try {
+                snapshots.add(snapshotCodec.decode(value));
+            } catch (EventCodecException e) {
+                log.error("Error decoding saga state for transaction {}", transactionId, e);
+            }
+        });
+        return snapshots;
+    }
+
+    private void send(String transactionId, byte[] value) {
+        kafkaTemplate
+                .send(SAGA_STATE.getTopic(), partitionFor(transactionId), transactionId, value)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("Error writing saga state for transaction {}", transactionId, e);
+                    }
+                });
+    }
+
+}
@@ -0,0 +1,176 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class TimingWheel<T> {
+
+    private final long tickMs;
+    private final long startMs;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final long maxTicks;
+    private final List<List<Bucket>> wheels;
+
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(long tickMs, int wheelSize, int levels, long startMs) {
+        var wheelBits = Integer.numberOfTrailingZeros(wheelSize);
+
+        if (Integer.bitCount(wheelSize) != 1 || levels < 1 || wheelBits * levels >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two and the wheel must span less than 2^63 ticks");
+        }
+
+        this.tickMs = tickMs;
+        this.startMs = startMs;
+        this.wheelBits = wheelBits;
+        this.wheelMask = wheelSize - 1;
+        this.maxTicks = (1L << (wheelBits * levels)) - 1;
+        this.wheels = new ArrayList<>(levels);
+
+        for (var level = 0; level < levels; level++) {
+            var buckets = new ArrayList<Bucket>(wheelSize);
+            for (var slot = 0; slot < wheelSize; slot++) {
+                buckets.add(new Bucket());
+            }
+            wheels.add(buckets);
+        }
+    }
+
+    public synchronized Timeout schedule(T value, long delayMs) {
+        var delayTicks = Math.max(1, (delayMs + tickMs - 1) / tickMs);
+        var timeout = new Timeout(value, currentTick + delayTicks);
+
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    public synchronized List<Timeout> advance(long nowMs) {
+        var targetTick = (nowMs - startMs) / tickMs;
+        var expired = new ArrayList<Timeout>();
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            drain(wheels.get(0).get((int) (currentTick & wheelMask)), expired);
+        }
+
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void cascade() {
+        for (var level = 1; level < wheels.size(); level++) {
+            if ((currentTick & ((1L << (wheelBits * level)) - 1)) != 0) {
+                return;
+            }
+
+            var slot = (int) ((currentTick >>> (wheelBits * level)) & wheelMask);
+            wheels.get(level).get(slot).drainTo(this::place);
+        }
+    }
+
+    private void drain(Bucket bucket, List<Timeout> expired) {
+        bucket.drainTo(timeout -> {
+            if (timeout.deadlineTick <= currentTick) {
+                size--;
+                expired.add(timeout);
+            } else {
+                place(timeout);
+            }
+        });
+    }
+
+    private void place(Timeout timeout) {
+        var ticks = Math.max(0, Math.min(timeout.deadlineTick - currentTick, maxTicks));
+        var tick = currentTick + ticks;
+        var level = 0;
+
+        while (level < wheels.size() - 1 && ticks >= 1L << (wheelBits * (level + 1))) {
+            level++;
+        }
+
+        var slot = (int) ((tick >>> (wheelBits * level)) & wheelMask);
+        wheels.get(level).get(slot).add(timeout);
+    }
+
+    public final class Timeout {
+
+        private final T value;
+        private final long deadlineTick;
+        private Bucket bucket;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(T value, long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public void cancel() {
+            synchronized (TimingWheel.this) {
+                if (bucket != null) {
+                    bucket.remove(this);
+                    size--;
+                }
+            }
+        }
+    }
+
+    private final class Bucket {
+
+        private Timeout head;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.previous = null;
+            timeout.next = head;
+
+            if (head != null) {
+                head.previous = timeout;
+            }
+            head = timeout;
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.previous != null) {
+                timeout.previous.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            }
+
+            timeout.bucket = null;
+            timeout.previous = null;
+            timeout.next = null;
+        }
+
+        private void drainTo(Consumer<Timeout> consumer) {
+            var timeout = head;
+            head = null;
+
+            while (timeout != null) {
+                var next = timeout.next;
+                timeout.bucket = null;
+                timeout.previous = null;
+                timeout.next = null;
+                consumer.accept(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+}
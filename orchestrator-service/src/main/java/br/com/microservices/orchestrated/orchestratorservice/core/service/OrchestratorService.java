@@ -0,0 +1,153 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EHistoryMode;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.orchestratorservice.core.producer.SagaOrchestratorProducer;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaExecutionController;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaRegistry;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.dto.History;
+import br.com.microservices.orchestrated.sagacommons.enums.EEventSource;
+import br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage;
+import br.com.microservices.orchestrated.sagacommons.metrics.SagaMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.NOTIFY_ENDING;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.SAGA_HISTORY;
+import static br.com.microservices.orchestrated.sagacommons.enums.EEventSource.ORCHESTRATOR;
+import static br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage.SAGA_FINISHED_FAIL;
+import static br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage.SAGA_FINISHED_SUCCESS;
+import static br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage.SAGA_STARTED;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.FAIL;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.SUCCESS;
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrchestratorService {
+
+    private final EventCodec<Event> eventCodec;
+    private final SagaOrchestratorProducer producer;
+    private final SagaExecutionController sagaExecutionController;
+    private final SagaMetrics sagaMetrics;
+    private final SagaRegistry sagaRegistry;
+
+    @Value("${orchestrator.history.mode}")
+    private EHistoryMode historyMode;
+
+    public CompletableFuture<?> startSaga(Event event) {
+        if (!sagaRegistry.acceptStart(event)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        event.setSource(ORCHESTRATOR);
+        event.setStatus(SUCCESS);
+        addHistory(event, SAGA_STARTED);
+
+        var topic = sagaExecutionController.getNextTopic(event);
+        log.info("SAGA STARTED FOR EVENT {}", event.getId());
+        return sendToProducerWithTopic(event, topic);
+    }
+
+    public CompletableFuture<?> continueSaga(Event event) {
+        if (!sagaRegistry.accept(event)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var topic = sagaExecutionController.getNextTopic(event);
+        log.info("SAGA CONTINUING FOR EVENT {}", event.getId());
+        return sendToProducerWithTopic(event, topic);
+    }
+
+    public CompletableFuture<?> finishSagaSuccess(Event event) {
+        if (!sagaRegistry.accept(event)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        event.setSource(ORCHESTRATOR);
+        event.setStatus(SUCCESS);
+        addHistory(event, SAGA_FINISHED_SUCCESS);
+
+        log.info("SAGA FINISHED SUCCESSFULLY FOR EVENT {}", event.getId());
+        return notifyFinishedSaga(event);
+    }
+
+    public CompletableFuture<?> finishSagaFail(Event event) {
+        if (!sagaRegistry.accept(event)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        event.setSource(ORCHESTRATOR);
+        event.setStatus(FAIL);
+        addHistory(event, SAGA_FINISHED_FAIL);
+
+        log.info("SAGA FINISHED WITH ERRORS FOR EVENT {}", event.getId());
+        return notifyFinishedSaga(event);
+    }
+
+    private void addHistory(Event event, EHistoryMessage message) {
+        addHistory(event, message, null);
+    }
+
+    private void addHistory(Event event, EHistoryMessage message, String detail) {
+        var history = History
+                .builder()
+                .source(event.getSource())
+                .status(event.getStatus())
+                .message(message)
+                .detail(detail)
+                .createdAt(System.currentTimeMillis())
+                .build();
+
+        event.addToHistory(history);
+    }
+
+    private CompletableFuture<?> notifyFinishedSaga(Event event) {
+        if (!isEmpty(event.getPayload())) {
+            sagaMetrics.recordSagaDuration(event.getStatus(), event.getPayload().getCreatedAt());
+        }
+
+        var sends = sendToProducerWithTopic(event, NOTIFY_ENDING);
+        sagaRegistry.complete(event.getTransactionId());
+        return sends;
+    }
+
+    private CompletableFuture<?> sendToProducerWithTopic(Event event, ETopics topic) {
+        var historySend = EHistoryMode.DELTA.equals(historyMode) && !NOTIFY_ENDING.equals(topic)
+                ? publishHistoryDelta(event)
+                : CompletableFuture.completedFuture(null);
+
+        var payload = eventCodec.encode(event);
+        var send = producer.sendEvent(event.getTransactionId(), payload, topic);
+        sagaRegistry.track(event.getTransactionId(), topic, payload);
+
+        return CompletableFuture.allOf(historySend, send);
+    }
+
+    private CompletableFuture<?> publishHistoryDelta(Event event) {
+        var delta = event.drainHistory();
+
+        if (isEmpty(delta)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var historyEvent = Event
+                .builder()
+                .transactionId(event.getTransactionId())
+                .orderId(event.getOrderId())
+                .eventHistory(delta)
+                .historySize(event.getHistorySize())
+                .build();
+
+        return producer.sendEvent(event.getTransactionId(), eventCodec.encode(historyEvent), SAGA_HISTORY);
+    }
+
+}
@@ -0,0 +1,157 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.producer.SagaOrchestratorProducer;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.enums.ESerializationFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaState.ACTIVE;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.NOTIFY_ENDING;
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.PAYMENT_SUCCESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SagaRegistryTest {
+
+    private static final String TRANSACTION_ID = "tx-1";
+
+    private SagaStateStore stateStore;
+    private SimpleMeterRegistry meterRegistry;
+    private SagaRegistry sagaRegistry;
+
+    @BeforeEach
+    void setUp() {
+        stateStore = mock(SagaStateStore.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(stateStore.partitionFor(anyString())).thenReturn(0);
+        when(stateStore.restore(anyCollection())).thenReturn(List.of(snapshot()));
+        sagaRegistry = buildRegistry(60_000L, 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sagaRegistry.close();
+    }
+
+    @Test
+    void trackWritesTheSnapshotWithoutHoldingTheSagaEntry() {
+        var concurrentStart = new CompletableFuture<Boolean>();
+        doAnswer(invocation -> {
+            concurrentStart.complete(CompletableFuture
+                    .supplyAsync(() -> sagaRegistry.acceptStart(Event.builder().transactionId(TRANSACTION_ID).build()))
+                    .get(1, TimeUnit.SECONDS));
+            return null;
+        }).when(stateStore).save(any());
+
+        sagaRegistry.track(TRANSACTION_ID, PAYMENT_SUCCESS, new byte[0]);
+
+        assertThat(concurrentStart).isCompletedWithValue(false);
+        verify(stateStore).save(any());
+    }
+
+    @Test
+    void assignResumesPartitionsSuspendedByTheRebalanceThatReturnsThem() {
+        sagaRegistry.assign(List.of(0), 1);
+        sagaRegistry.suspend(List.of(0), 1);
+        sagaRegistry.assign(List.of(0), 2);
+
+        verify(stateStore, times(1)).restore(anyCollection());
+        verify(stateStore).flush();
+        assertThat(sagaRegistry.size()).isEqualTo(1);
+    }
+
+    @Test
+    void assignRestoresPartitionsSuspendedBeforeAnEarlierGeneration() {
+        sagaRegistry.assign(List.of(0), 1);
+        sagaRegistry.suspend(List.of(0), 1);
+        sagaRegistry.assign(List.of(0), 3);
+
+        verify(stateStore, times(2)).restore(anyCollection());
+        assertThat(sagaRegistry.size()).isEqualTo(1);
+    }
+
+    @Test
+    void suspendedPartitionsThatAreNotReturnedAreDroppedAfterTheGracePeriod() throws InterruptedException {
+        sagaRegistry.close();
+        sagaRegistry = buildRegistry(60_000L, 50L);
+        sagaRegistry.start();
+
+        sagaRegistry.assign(List.of(0), 1);
+        sagaRegistry.suspend(List.of(0), 1);
+
+        awaitUntil(() -> sagaRegistry.size() == 0);
+    }
+
+    @Test
+    void expiringASagaWithoutPayloadCountsItAsDiscarded() throws InterruptedException {
+        sagaRegistry.close();
+        sagaRegistry = buildRegistry(50L, 60_000L);
+        sagaRegistry.start();
+
+        sagaRegistry.assign(List.of(0), 1);
+        sagaRegistry.track(TRANSACTION_ID, NOTIFY_ENDING, new byte[0]);
+
+        awaitUntil(() -> meterRegistry.find(SagaRegistry.DISCARDED).tag("reason", "expired-without-payload").counter() != null);
+        verify(stateStore).delete(TRANSACTION_ID);
+    }
+
+    private SagaRegistry buildRegistry(Long stepTimeoutMs, Long rebalanceGraceMs) {
+        return new SagaRegistry(
+                new EventCodec<>(new ObjectMapper().findAndRegisterModules(), ESerializationFormat.SMILE, Event.class),
+                mock(SagaOrchestratorProducer.class),
+                stateStore,
+                meterRegistry,
+                stepTimeoutMs,
+                60_000L,
+                10L,
+                64,
+                3,
+                3,
+                rebalanceGraceMs
+        );
+    }
+
+    private SagaSnapshot snapshot() {
+        return SagaSnapshot
+                .builder()
+                .transactionId("tx-restored")
+                .state(ACTIVE)
+                .step(PAYMENT_SUCCESS)
+                .payload(new byte[0])
+                .retries(0)
+                .rollbackAccepted(false)
+                .rollbackRequested(false)
+                .deadline(System.currentTimeMillis() + 60_000L)
+                .build();
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 5_000L;
+
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+}
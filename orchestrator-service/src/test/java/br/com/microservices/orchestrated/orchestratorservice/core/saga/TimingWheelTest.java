@@ -0,0 +1,66 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimingWheelTest {
+
+    private TimingWheel<Long> timingWheel;
+
+    @BeforeEach
+    void setUp() {
+        timingWheel = new TimingWheel<>(10L, 4, 3, 0L);
+    }
+
+    @Test
+    void advanceExpiresEachTimeoutAtItsDeadlineAfterCascadingFromUpperWheels() {
+        var delays = List.of(10L, 30L, 40L, 50L, 170L, 630L, 640L, 1000L);
+        delays.forEach(delay -> timingWheel.schedule(delay, delay));
+
+        var expiredAt = new LinkedHashMap<Long, Long>();
+        for (var now = 10L; now <= 1200L; now += 10L) {
+            for (var timeout : timingWheel.advance(now)) {
+                expiredAt.put(timeout.getValue(), now);
+            }
+        }
+
+        assertThat(expiredAt).containsOnlyKeys(delays);
+        delays.forEach(delay -> assertThat(expiredAt.get(delay)).as("timeout of %d ms", delay).isEqualTo(delay));
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    @Test
+    void advanceExpiresEveryOverdueTimeoutWhenItSkipsTicks() {
+        timingWheel.schedule(10L, 10L);
+        timingWheel.schedule(170L, 170L);
+        timingWheel.schedule(500L, 500L);
+
+        assertThat(timingWheel.advance(200L)).extracting(TimingWheel.Timeout::getValue).containsExactlyInAnyOrder(10L, 170L);
+        assertThat(timingWheel.advance(500L)).extracting(TimingWheel.Timeout::getValue).containsExactly(500L);
+    }
+
+    @Test
+    void cancelledTimeoutsNeverExpire() {
+        var cancelled = timingWheel.schedule(170L, 170L);
+        timingWheel.schedule(180L, 180L);
+        timingWheel.advance(160L);
+
+        cancelled.cancel();
+        cancelled.cancel();
+
+        assertThat(timingWheel.size()).isEqualTo(1);
+        assertThat(timingWheel.advance(200L)).extracting(TimingWheel.Timeout::getValue).containsExactly(180L);
+    }
+
+    @Test
+    void rejectsWheelSizesThatAreNotPowersOfTwo() {
+        assertThatThrownBy(() -> new TimingWheel<>(10L, 6, 3, 0L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
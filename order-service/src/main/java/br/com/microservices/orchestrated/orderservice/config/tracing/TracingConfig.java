@@ -0,0 +1,39 @@
+package br.com.microservices.orchestrated.orderservice.config.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
+
+import br.com.microservices.orchestrated.sagacommons.tracing.InMemorySpanRecorder;
+import br.com.microservices.orchestrated.sagacommons.tracing.SagaTracing;
+import io.micrometer.observation.ObservationRegistry;
+
+@Configuration
+public class TracingConfig {
+
+    @Value("${management.tracing.in-memory.max-spans}")
+    private Integer inMemoryMaxSpans;
+
+    @Bean
+    public SagaTracing sagaTracing(ObservationRegistry observationRegistry) {
+        return new SagaTracing(observationRegistry);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoObservationCustomizer(ObservationRegistry observationRegistry) {
+        return builder -> builder
+                .contextProvider(ContextProviderFactory.create(observationRegistry))
+                .addCommandListener(new MongoObservationCommandListener(observationRegistry));
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "management.tracing.in-memory.enabled", havingValue = "true")
+    public InMemorySpanRecorder inMemorySpanRecorder() {
+        return new InMemorySpanRecorder(inMemoryMaxSpans);
+    }
+
+}
@@ -1,28 +1,61 @@
 package br.com.microservices.orchestrated.orderservice.core.consumer;
 
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import br.com.microservices.orchestrated.orderservice.config.kafka.SagaRetryableTopic;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
 import br.com.microservices.orchestrated.orderservice.core.service.EventService;
-import br.com.microservices.orchestrated.orderservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.logging.SagaEventLogger;
+import br.com.microservices.orchestrated.sagacommons.metrics.SagaMetrics;
+import br.com.microservices.orchestrated.sagacommons.tracing.SagaTracing;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
-@Slf4j
+import static br.com.microservices.orchestrated.sagacommons.tracing.SagaTracing.EVENT_DECODE;
+
 @Component
 @AllArgsConstructor
 public class EventConsumer {
 
-    private final JsonUtil jsonUtil;
+    private final EventCodec<Event> eventCodec;
+    private final SagaMetrics sagaMetrics;
+    private final SagaTracing sagaTracing;
+    private final SagaEventLogger sagaEventLogger;
     private final EventService eventService;
 
+    @SagaRetryableTopic
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.notify-ending}"
     )
-    public void consumeNotifyEndingEvent(String payloud) {
-        log.info("Receiving ending notification event {} from notify-ending topic", payloud);
-        var event = jsonUtil.toEvent(payloud);
-        eventService.notifyEnding(event);
+    public void consumeNotifyEndingEvent(byte[] payload, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        var event = sagaTracing.observe(EVENT_DECODE, topic, () -> eventCodec.decode(payload));
+        sagaEventLogger.received(topic, event.getTransactionId(), event.getOrderId(), event.getSource(), event.getStatus(), event.getCreatedAt(), event);
+        sagaMetrics.recordListener(topic, event.getSource(), event.getStatus(), () -> eventService.notifyEnding(event));
     }
+
+    @SagaRetryableTopic
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.saga-history}"
+    )
+    public void consumeSagaHistoryEvent(byte[] payload, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        var event = sagaTracing.observe(EVENT_DECODE, topic, () -> eventCodec.decode(payload));
+        sagaEventLogger.received(topic, event.getTransactionId(), event.getOrderId(), event.getSource(), event.getStatus(), event.getCreatedAt(), event);
+        sagaMetrics.recordListener(topic, event.getSource(), event.getStatus(), () -> eventService.appendHistory(event));
+    }
+
+    @DltHandler
+    public void consumeDeadLetter(@Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                                  @Header(name = KafkaHeaders.RECEIVED_KEY, required = false) String key,
+                                  @Header(name = KafkaHeaders.EXCEPTION_CAUSE_FQCN, required = false) String exception,
+                                  @Header(name = KafkaHeaders.EXCEPTION_MESSAGE, required = false) String message) {
+        sagaEventLogger.deadLettered(topic, key, exception, message);
+        sagaMetrics.recordDeadLetter(topic, exception);
+    }
+
 }
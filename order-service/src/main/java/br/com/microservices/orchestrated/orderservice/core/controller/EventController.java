@@ -2,12 +2,18 @@ package br.com.microservices.orchestrated.orderservice.core.controller;
 
 import java.util.List;
 
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.microservices.orchestrated.orderservice.core.document.Event;
 import br.com.microservices.orchestrated.orderservice.core.dto.EventFilters;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventPage;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventStatus;
 import br.com.microservices.orchestrated.orderservice.core.service.EventService;
 import lombok.AllArgsConstructor;
 
@@ -23,10 +29,27 @@ public class EventController {
         return eventService.findByFilters(filters);
     }
 
+    @GetMapping("/status")
+    public EventStatus findStatusByFilters(EventFilters filters) {
+        return eventService.findStatusByFilters(filters);
+    }
+
     @GetMapping("/all")
     public List<Event> findAll() {
         return eventService.findAll();
     }
 
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        StreamingResponseBody body = eventService::streamAll;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/page")
+    public EventPage findPage(@RequestParam(required = false) String cursor,
+                              @RequestParam(defaultValue = "100") Integer size) {
+        return eventService.findPage(cursor, size);
+    }
+
 }
 
@@ -1,11 +1,14 @@
 package br.com.microservices.orchestrated.orderservice.core.controller;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderAcceptedResponse;
 import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
 import br.com.microservices.orchestrated.orderservice.core.service.OrderService;
 import lombok.AllArgsConstructor;
@@ -22,4 +25,10 @@ public class OrderController {
         return orderService.createOrder(orderRequest);
     }
 
+    @PostMapping("/async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public OrderAcceptedResponse createOrderAsync(@RequestBody OrderRequest orderRequest) {
+        return orderService.createOrderAsync(orderRequest);
+    }
+
 }
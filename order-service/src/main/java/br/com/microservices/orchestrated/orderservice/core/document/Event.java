@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
@@ -16,6 +18,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "event")
+@CompoundIndexes({
+        @CompoundIndex(name = "createdAt_id", def = "{'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "orderId_createdAt", def = "{'orderId': 1, 'createdAt': -1}"),
+        @CompoundIndex(name = "transactionId_createdAt", def = "{'transactionId': 1, 'createdAt': -1}")
+})
 public class Event {
 
     @Id
@@ -34,4 +41,8 @@ public class Event {
     private LocalDateTime createdAt;
 
     private List<History> eventHistory;
+
+    private Integer historySize;
+
+    private Boolean historyComplete;
 }
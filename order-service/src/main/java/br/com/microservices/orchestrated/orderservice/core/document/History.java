@@ -1,6 +1,10 @@
 package br.com.microservices.orchestrated.orderservice.core.document;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,5 +25,17 @@ public class History {
 
     private LocalDateTime createdAt;
 
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static History from(br.com.microservices.orchestrated.sagacommons.dto.History history) {
+        return History
+                .builder()
+                .source(history.getSource() != null ? history.getSource().name() : null)
+                .status(history.getStatus() != null ? history.getStatus().name() : null)
+                .message(history.getMessage() != null ? history.getMessage().format(history.getDetail()) : history.getDetail())
+                .createdAt(history.getCreatedAt() != null
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(history.getCreatedAt()), ZoneId.systemDefault())
+                        : null)
+                .build();
+    }
 
 }
@@ -0,0 +1,33 @@
+package br.com.microservices.orchestrated.orderservice.core.document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "outbox")
+public class Outbox {
+
+    @Id
+    private String id;
+
+    private String transactionId;
+
+    private byte[] payload;
+
+    private Map<String, String> traceHeaders;
+
+    @Indexed
+    private LocalDateTime createdAt;
+}
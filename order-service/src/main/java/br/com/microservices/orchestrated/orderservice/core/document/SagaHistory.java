@@ -0,0 +1,34 @@
+package br.com.microservices.orchestrated.orderservice.core.document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "saga_history")
+public class SagaHistory {
+
+    @Id
+    private String id;
+
+    @Indexed
+    private String transactionId;
+
+    private Integer startIndex;
+
+    private List<History> entries;
+
+    @Indexed(expireAfter = "1d")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package br.com.microservices.orchestrated.orderservice.core.dto;
+
+import java.util.List;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPage {
+
+    private List<Event> content;
+
+    private String nextCursor;
+}
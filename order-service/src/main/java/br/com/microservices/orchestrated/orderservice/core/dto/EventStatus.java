@@ -0,0 +1,22 @@
+package br.com.microservices.orchestrated.orderservice.core.dto;
+
+import java.util.List;
+
+import br.com.microservices.orchestrated.orderservice.core.document.History;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventStatus {
+
+    private String orderId;
+
+    private String transactionId;
+
+    private String status;
+
+    private List<History> eventHistory;
+}
@@ -0,0 +1,129 @@
+package br.com.microservices.orchestrated.orderservice.core.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.Outbox;
+import br.com.microservices.orchestrated.orderservice.core.producer.SagaProducer;
+import br.com.microservices.orchestrated.orderservice.core.repository.OutboxRepository;
+import br.com.microservices.orchestrated.orderservice.core.service.OrderService;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final OrderService orderService;
+    private final EventCodec<Event> eventCodec;
+    private final SagaProducer sagaProducer;
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    @Value("${order.outbox.batch-size}")
+    private Integer batchSize;
+
+    @Value("${order.outbox.send-timeout}")
+    private Long sendTimeout;
+
+    @Scheduled(fixedDelayString = "${order.outbox.linger}")
+    public void drain() {
+        List<Outbox> batch;
+
+        do {
+            batch = outboxRepository.findAllByOrderByCreatedAtAsc(PageRequest.of(0, batchSize));
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            orderService.materialize(decode(batch));
+            var sentIds = send(batch);
+            outboxRepository.deleteAllById(sentIds);
+
+            if (sentIds.size() < batch.size()) {
+                log.warn("{} of {} outbox events were not acknowledged and will be retried", batch.size() - sentIds.size(), batch.size());
+                return;
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private List<Event> decode(List<Outbox> batch) {
+        return batch
+                .stream()
+                .map(outbox -> eventCodec.decode(outbox.getPayload()))
+                .toList();
+    }
+
+    private List<String> send(List<Outbox> batch) {
+        var futures = batch
+                .stream()
+                .map(this::send)
+                .toList();
+
+        var sentIds = new ArrayList<String>();
+
+        for (var i = 0; i < batch.size(); i++) {
+            if (isAcknowledged(futures.get(i))) {
+                sentIds.add(batch.get(i).getId());
+            }
+        }
+
+        return sentIds;
+    }
+
+    private CompletableFuture<?> send(Outbox outbox) {
+        var traceHeaders = Objects.requireNonNullElse(outbox.getTraceHeaders(), Map.<String, String>of());
+        var span = propagator
+                .extract(traceHeaders, Map::get)
+                .name("outbox.relay")
+                .start();
+
+        var scope = tracer.withSpan(span);
+
+        try {
+            return sagaProducer
+                    .sendEvent(outbox.getTransactionId(), outbox.getPayload())
+                    .whenComplete((result, e) -> endSpan(span, e));
+        } finally {
+            scope.close();
+        }
+    }
+
+    private void endSpan(Span span, Throwable error) {
+        if (error != null) {
+            span.error(error);
+        }
+        span.end();
+    }
+
+    private boolean isAcknowledged(CompletableFuture<?> future) {
+        try {
+            future.get(sendTimeout, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("Error waiting for outbox event acknowledgement", e);
+            return false;
+        }
+    }
+
+}
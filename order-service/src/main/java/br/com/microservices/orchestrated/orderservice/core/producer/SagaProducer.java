@@ -1,9 +1,15 @@
 package br.com.microservices.orchestrated.orderservice.core.producer;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import br.com.microservices.orchestrated.sagacommons.logging.SagaEventLogger;
+import br.com.microservices.orchestrated.sagacommons.metrics.SagaMetrics;
+import br.com.microservices.orchestrated.sagacommons.producer.InFlightLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -12,17 +18,21 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SagaProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final SagaMetrics sagaMetrics;
+    private final SagaEventLogger sagaEventLogger;
+    private final InFlightLimiter inFlightLimiter;
 
     @Value("${spring.kafka.topic.start-saga}")
     private String startSagaTopic;
 
-    public void sendEvent(String payload) {
+    public CompletableFuture<SendResult<String, byte[]>> sendEvent(String key, byte[] payload) {
         try {
-            log.info("Sending event to topic {} with data {}", startSagaTopic, payload);
-            kafkaTemplate.send(startSagaTopic, payload);
+            sagaEventLogger.sent(startSagaTopic, key, payload.length);
+            return inFlightLimiter.submit(() -> sagaMetrics.recordSend(startSagaTopic, () -> kafkaTemplate.send(startSagaTopic, key, payload)));
         } catch (Exception e) {
-            log.error("Error sending event to topic {} with data {}", startSagaTopic, payload, e);
+            log.error("Error sending event to topic {} with key {}", startSagaTopic, key, e);
+            return CompletableFuture.failedFuture(e);
         }
     }
 
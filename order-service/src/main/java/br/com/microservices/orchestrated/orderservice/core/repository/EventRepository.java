@@ -1,9 +1,14 @@
 package br.com.microservices.orchestrated.orderservice.core.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 import br.com.microservices.orchestrated.orderservice.core.document.Event;
 
@@ -11,8 +16,17 @@ public interface EventRepository extends MongoRepository<Event, String> {
 
     List<Event> findAllByOrderByCreatedAtDesc();
 
-    Optional<Event> findTop1ByOrderIdOrderByCreatedAtDesc(String orderId);
+    Stream<Event> streamAllByOrderByCreatedAtDesc();
 
-    Optional<Event> findTop1ByTransactionIdOrderByCreatedAtDesc(String transactionId);
+    List<Event> findAllBy(Pageable pageable);
+
+    @Query("{ $or: [ { createdAt: { $lt: ?0 } }, { createdAt: ?0, _id: { $lt: ?1 } } ] }")
+    List<Event> findAllAfter(LocalDateTime createdAt, ObjectId id, Pageable pageable);
+
+    <T> Optional<T> findTop1ByOrderIdOrderByCreatedAtDesc(String orderId, Class<T> type);
+
+    <T> Optional<T> findTop1ByTransactionIdOrderByCreatedAtDesc(String transactionId, Class<T> type);
+
+    Optional<Event> findTop1ByTransactionIdAndHistoryCompleteFalse(String transactionId);
 
 }
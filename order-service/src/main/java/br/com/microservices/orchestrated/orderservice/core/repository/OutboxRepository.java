@@ -0,0 +1,14 @@
+package br.com.microservices.orchestrated.orderservice.core.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Outbox;
+
+public interface OutboxRepository extends MongoRepository<Outbox, String> {
+
+    List<Outbox> findAllByOrderByCreatedAtAsc(Pageable pageable);
+
+}
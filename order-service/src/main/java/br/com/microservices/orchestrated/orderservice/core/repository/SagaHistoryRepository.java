@@ -0,0 +1,15 @@
+package br.com.microservices.orchestrated.orderservice.core.repository;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import br.com.microservices.orchestrated.orderservice.core.document.SagaHistory;
+
+public interface SagaHistoryRepository extends MongoRepository<SagaHistory, String> {
+
+    List<SagaHistory> findAllByTransactionIdOrderByCreatedAtAsc(String transactionId);
+
+    void deleteAllByTransactionId(String transactionId);
+
+}
@@ -1,15 +1,35 @@
 package br.com.microservices.orchestrated.orderservice.core.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 
 import static org.apache.commons.lang3.ObjectUtils.isEmpty;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
 import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.History;
+import br.com.microservices.orchestrated.orderservice.core.document.SagaHistory;
 import br.com.microservices.orchestrated.orderservice.core.dto.EventFilters;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventPage;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventStatus;
 import br.com.microservices.orchestrated.orderservice.core.repository.EventRepository;
+import br.com.microservices.orchestrated.orderservice.core.repository.SagaHistoryRepository;
 import jakarta.servlet.Filter;
 import jakarta.validation.Validation;
 import lombok.AllArgsConstructor;
@@ -20,44 +40,186 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class EventService {
 
+    private static final Integer MAX_PAGE_SIZE = 1000;
+    private static final String CURSOR_SEPARATOR = "_";
+    private static final String HISTORY_ID_FORMAT = "%s:%d";
+    private static final byte NDJSON_SEPARATOR = '\n';
+    private static final Sort PAGE_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    private static final Comparator<SagaHistory> HISTORY_DELTA_ORDER =
+            Comparator.comparing(SagaHistory::getStartIndex, Comparator.nullsLast(Comparator.naturalOrder()));
+
     private final EventRepository eventRepository;
+    private final SagaHistoryRepository sagaHistoryRepository;
+    private final ObjectMapper objectMapper;
 
     public Event save(Event event) {
         return eventRepository.save(event);
     }
 
     public void notifyEnding(Event event) {
+        var delta = isEmpty(event.getEventHistory()) ? List.<History>of() : event.getEventHistory();
+        var history = Objects.equals(event.getHistorySize(), delta.size())
+                ? delta
+                : assembleHistory(event.getTransactionId(), delta);
+        var complete = isHistoryComplete(event.getHistorySize(), history);
+
+        if (!complete) {
+            saveHistoryDelta(event);
+        }
+
         event.setOrderId(event.getOrderId());
+        event.setEventHistory(history);
+        event.setHistoryComplete(complete);
         event.setCreatedAt(LocalDateTime.now());
-        save(event);
+        var saved = save(event);
+
+        if (complete) {
+            sagaHistoryRepository.deleteAllByTransactionId(event.getTransactionId());
+        } else {
+            log.warn("Order {} saved with {} of {} history entries, waiting for the missing deltas. TransactionID: {}",
+                    event.getOrderId(), history.size(), event.getHistorySize(), event.getTransactionId());
+            completeHistory(saved);
+        }
         log.info("Order {} with saga notified! TransactionID: {}", event.getOrderId(), event.getTransactionId());
     }
 
+    public void appendHistory(Event event) {
+        if (isEmpty(event.getEventHistory())) {
+            return;
+        }
+
+        saveHistoryDelta(event);
+        eventRepository
+                .findTop1ByTransactionIdAndHistoryCompleteFalse(event.getTransactionId())
+                .ifPresent(this::completeHistory);
+    }
+
     public List<Event> findAll() {
         return eventRepository.findAllByOrderByCreatedAtDesc();
     }
 
+    public EventPage findPage(String cursor, Integer size) {
+        validatePageSize(size);
+
+        var pageable = PageRequest.of(0, size + 1, PAGE_SORT);
+        var events = isEmpty(cursor)
+                ? eventRepository.findAllBy(pageable)
+                : findAllAfter(cursor, pageable);
+
+        if (events.size() <= size) {
+            return new EventPage(events, null);
+        }
+
+        var content = events.subList(0, size);
+        return new EventPage(content, encodeCursor(content.get(size - 1)));
+    }
+
+    public void streamAll(OutputStream outputStream) throws IOException {
+        try (var events = eventRepository.streamAllByOrderByCreatedAtDesc()) {
+            var iterator = events.iterator();
+
+            while (iterator.hasNext()) {
+                outputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+                outputStream.write(NDJSON_SEPARATOR);
+            }
+        }
+
+        outputStream.flush();
+    }
+
     public Event findByFilters(EventFilters filters) {
+        return findByFilters(filters, Event.class);
+    }
+
+    public EventStatus findStatusByFilters(EventFilters filters) {
+        return findByFilters(filters, EventStatus.class);
+    }
+
+    private <T> T findByFilters(EventFilters filters, Class<T> type) {
         validateEmptyFilters(filters);
 
         if (!isEmpty(filters.getOrderId())) {
-            return findByOrderId(filters);
+            return findByOrderId(filters, type);
         }
 
-        return findByTransactionId(filters);
+        return findByTransactionId(filters, type);
     }
 
-    private Event findByOrderId(EventFilters filters) {
-        return eventRepository.findTop1ByOrderIdOrderByCreatedAtDesc(filters.getOrderId())
+    private <T> T findByOrderId(EventFilters filters, Class<T> type) {
+        return eventRepository.findTop1ByOrderIdOrderByCreatedAtDesc(filters.getOrderId(), type)
                 .orElseThrow(() -> new ValidationException("Event not found by Order ID"));
     }
 
-    private Event findByTransactionId(EventFilters filters) {
-        return eventRepository.findTop1ByTransactionIdOrderByCreatedAtDesc(filters.getTransactionId())
+    private <T> T findByTransactionId(EventFilters filters, Class<T> type) {
+        return eventRepository.findTop1ByTransactionIdOrderByCreatedAtDesc(filters.getTransactionId(), type)
                 .orElseThrow(() -> new ValidationException("Event not found by Transaction ID"));
     }
 
 
+    private void saveHistoryDelta(Event event) {
+        var startIndex = event.getHistorySize() != null
+                ? event.getHistorySize() - event.getEventHistory().size()
+                : null;
+
+        sagaHistoryRepository.save(SagaHistory
+                .builder()
+                .id(startIndex != null ? HISTORY_ID_FORMAT.formatted(event.getTransactionId(), startIndex) : null)
+                .transactionId(event.getTransactionId())
+                .startIndex(startIndex)
+                .entries(event.getEventHistory())
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void completeHistory(Event event) {
+        var history = assembleHistory(event.getTransactionId(), List.of());
+
+        if (!isHistoryComplete(event.getHistorySize(), history)) {
+            return;
+        }
+
+        event.setEventHistory(history);
+        event.setHistoryComplete(true);
+        save(event);
+        sagaHistoryRepository.deleteAllByTransactionId(event.getTransactionId());
+        log.info("Order {} history completed with {} entries. TransactionID: {}", event.getOrderId(), history.size(), event.getTransactionId());
+    }
+
+    private List<History> assembleHistory(String transactionId, List<History> delta) {
+        var history = new ArrayList<History>();
+        sagaHistoryRepository
+                .findAllByTransactionIdOrderByCreatedAtAsc(transactionId)
+                .stream()
+                .sorted(HISTORY_DELTA_ORDER)
+                .forEach(stored -> history.addAll(stored.getEntries()));
+        history.addAll(delta);
+        return history;
+    }
+
+    private boolean isHistoryComplete(Integer historySize, List<History> history) {
+        return historySize == null || historySize == history.size();
+    }
+
+    private List<Event> findAllAfter(String cursor, Pageable pageable) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(CURSOR_SEPARATOR);
+            return eventRepository.findAllAfter(LocalDateTime.parse(decoded[0]), new ObjectId(decoded[1]), pageable);
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new ValidationException("Invalid page cursor");
+        }
+    }
+
+    private String encodeCursor(Event event) {
+        var cursor = event.getCreatedAt().toString().concat(CURSOR_SEPARATOR).concat(event.getId());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void validatePageSize(Integer size) {
+        if (size == null || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
     private void validateEmptyFilters(EventFilters filters) {
         if (isEmpty(filters.getOrderId()) && isEmpty(filters.getTransactionId())) {
             throw new ValidationException("Order ID or Transaction ID must be informed");
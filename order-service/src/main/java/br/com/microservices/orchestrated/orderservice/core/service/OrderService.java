@@ -2,56 +2,96 @@ package br.com.microservices.orchestrated.orderservice.core.service;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.util.MongoDbErrorCodes;
 import org.springframework.stereotype.Service;
 
 import br.com.microservices.orchestrated.orderservice.core.document.Event;
 import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderAcceptedResponse;
 import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
-import br.com.microservices.orchestrated.orderservice.core.producer.SagaProducer;
-import br.com.microservices.orchestrated.orderservice.core.repository.OrderRepository;
-import br.com.microservices.orchestrated.orderservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class OrderService {
 
     private static final String TRANSACTION_ID_FORMAT = "%s_%s";
 
-    private final OrderRepository orderRepository;
-    private final JsonUtil jsonUtil;
-    private final SagaProducer sagaProducer;
-    private final EventService eventService;
+    private final MongoTemplate mongoTemplate;
+    private final EventCodec<Event> eventCodec;
+    private final OutboxService outboxService;
 
     public Order createOrder(OrderRequest orderRequest) {
-       var order = Order
-               .builder()
-               .products(orderRequest.getProducts())
-               .createdAt(LocalDateTime.now())
-               .transactionId(String.format(TRANSACTION_ID_FORMAT, Instant.now().toEpochMilli(), UUID.randomUUID()))
-               .build();
+       var event = acceptOrder(orderRequest);
 
+       materialize(List.of(event));
+       return event.getPayload();
+    }
+
+    public OrderAcceptedResponse createOrderAsync(OrderRequest orderRequest) {
+        var event = acceptOrder(orderRequest);
+
+        return new OrderAcceptedResponse(event.getOrderId(), event.getTransactionId());
+    }
+
+    public void materialize(List<Event> startEvents) {
+        insertIfAbsent(Order.class, startEvents
+                .stream()
+                .map(Event::getPayload)
+                .toList());
+        insertIfAbsent(Event.class, startEvents);
+    }
+
+    private Event acceptOrder(OrderRequest orderRequest) {
+        var event = createPayload(buildOrder(orderRequest));
 
-       orderRepository.save(order);
-       sagaProducer.sendEvent(jsonUtil.toJson(createPayload(order)));
-       return order;
+        outboxService.save(event.getTransactionId(), eventCodec.encode(event));
+        return event;
     }
 
+    private Order buildOrder(OrderRequest orderRequest) {
+        return Order
+                .builder()
+                .id(new ObjectId().toHexString())
+                .products(orderRequest.getProducts())
+                .createdAt(LocalDateTime.now())
+                .transactionId(String.format(TRANSACTION_ID_FORMAT, Instant.now().toEpochMilli(), UUID.randomUUID()))
+                .build();
+    }
 
     private Event createPayload(Order order) {
-        var event = Event
+        return Event
                 .builder()
+                .id(new ObjectId().toHexString())
                 .orderId(order.getId())
                 .transactionId(order.getTransactionId())
                 .payload(order)
                 .createdAt(LocalDateTime.now())
                 .build();
-
-        return eventService.save(event);
     }
 
-
+    private void insertIfAbsent(Class<?> type, List<?> documents) {
+        try {
+            mongoTemplate
+                    .bulkOps(BulkOperations.BulkMode.UNORDERED, type)
+                    .insert(documents)
+                    .execute();
+        } catch (BulkOperationException e) {
+            if (!e.getErrors().stream().allMatch(error -> MongoDbErrorCodes.isDuplicateKeyCode(error.getCode()))) {
+                throw e;
+            }
+            log.debug("{} of {} {} documents were already materialized", e.getErrors().size(), documents.size(), type.getSimpleName());
+        }
+    }
 
 }
@@ -0,0 +1,46 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Outbox;
+import br.com.microservices.orchestrated.orderservice.core.repository.OutboxRepository;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.AllArgsConstructor;
+
+@Service
+@AllArgsConstructor
+public class OutboxService {
+
+    private final OutboxRepository outboxRepository;
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    public Outbox save(String transactionId, byte[] payload) {
+        var outbox = Outbox
+                .builder()
+                .transactionId(transactionId)
+                .payload(payload)
+                .traceHeaders(currentTraceHeaders())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        return outboxRepository.save(outbox);
+    }
+
+    private Map<String, String> currentTraceHeaders() {
+        var headers = new HashMap<String, String>();
+        var context = tracer.currentTraceContext().context();
+
+        if (context != null) {
+            propagator.inject(context, headers, Map::put);
+        }
+
+        return headers;
+    }
+
+}
@@ -0,0 +1,161 @@
+package br.com.microservices.orchestrated.orderservice.core.outbox;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.kafka.support.micrometer.KafkaListenerObservation;
+import org.springframework.kafka.support.micrometer.KafkaRecordReceiverContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.Outbox;
+import br.com.microservices.orchestrated.orderservice.core.producer.SagaProducer;
+import br.com.microservices.orchestrated.orderservice.core.repository.OutboxRepository;
+import br.com.microservices.orchestrated.orderservice.core.service.OrderService;
+import br.com.microservices.orchestrated.orderservice.core.service.OutboxService;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.enums.ESerializationFormat;
+import br.com.microservices.orchestrated.sagacommons.logging.SagaEventLogger;
+import br.com.microservices.orchestrated.sagacommons.metrics.SagaMetrics;
+import br.com.microservices.orchestrated.sagacommons.producer.InFlightLimiter;
+import br.com.microservices.orchestrated.sagacommons.tracing.InMemorySpanRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.handler.PropagatingReceiverTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingSenderTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.micrometer.tracing.propagation.Propagator;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private static final String START_SAGA_TOPIC = "start-saga";
+    private static final String TRANSACTION_ID = "tx-1";
+
+    private EventCodec<Event> eventCodec;
+    private InMemorySpanRecorder spanRecorder;
+    private Tracer tracer;
+    private ObservationRegistry observationRegistry;
+    private MockProducer<String, byte[]> producer;
+    private OutboxRepository outboxRepository;
+    private OutboxService outboxService;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        eventCodec = new EventCodec<>(new ObjectMapper().findAndRegisterModules(), ESerializationFormat.SMILE, Event.class);
+        spanRecorder = new InMemorySpanRecorder(100);
+        var otelTracer = SdkTracerProvider
+                .builder()
+                .addSpanProcessor(spanRecorder)
+                .build()
+                .get("order-service");
+        tracer = new OtelTracer(otelTracer, new OtelCurrentTraceContext(), event -> { });
+        Propagator propagator = new OtelPropagator(ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otelTracer);
+
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry
+                .observationConfig()
+                .observationHandler(new PropagatingSenderTracingObservationHandler<>(tracer, propagator))
+                .observationHandler(new PropagatingReceiverTracingObservationHandler<>(tracer, propagator));
+
+        producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        var sagaProducer = new SagaProducer(
+                observedKafkaTemplate(),
+                new SagaMetrics(new SimpleMeterRegistry()),
+                new SagaEventLogger(0.0),
+                new InFlightLimiter(10, 1000L)
+        );
+        ReflectionTestUtils.setField(sagaProducer, "startSagaTopic", START_SAGA_TOPIC);
+
+        outboxRepository = mock(OutboxRepository.class);
+        when(outboxRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        outboxService = new OutboxService(outboxRepository, tracer, propagator);
+        outboxRelay = new OutboxRelay(outboxRepository, mock(OrderService.class), eventCodec, sagaProducer, tracer, propagator);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 10);
+        ReflectionTestUtils.setField(outboxRelay, "sendTimeout", 1000L);
+    }
+
+    @Test
+    void drainContinuesTheRequestTraceThroughTheRelayIntoTheOrchestratorListener() {
+        var requestSpan = tracer.nextSpan().name("http post /api/order/async").start();
+        Outbox outbox;
+
+        try (var ignored = tracer.withSpan(requestSpan)) {
+            outbox = outboxService.save(TRANSACTION_ID, eventCodec.encode(Event.builder().transactionId(TRANSACTION_ID).build()));
+        } finally {
+            requestSpan.end();
+        }
+
+        when(outboxRepository.findAllByOrderByCreatedAtAsc(any(Pageable.class))).thenReturn(List.of(outbox));
+        outboxRelay.drain();
+        consumeInOrchestrator();
+
+        var traceId = requestSpan.context().traceId();
+        var spans = spanRecorder.getFinishedSpans(traceId);
+        var relaySpan = spanNamed(spans, "outbox.relay");
+        var sendSpan = spanNamed(spans, START_SAGA_TOPIC + " send");
+        var receiveSpan = spanNamed(spans, START_SAGA_TOPIC + " receive");
+
+        assertThat(spans).hasSize(4);
+        assertThat(relaySpan.getParentSpanId()).isEqualTo(requestSpan.context().spanId());
+        assertThat(sendSpan.getParentSpanId()).isEqualTo(relaySpan.getSpanId());
+        assertThat(receiveSpan.getParentSpanId()).isEqualTo(sendSpan.getSpanId());
+    }
+
+    private void consumeInOrchestrator() {
+        var sent = producer.history().get(0);
+        var record = new ConsumerRecord<>(sent.topic(), 0, 0L, 0L, TimestampType.CREATE_TIME, -1, -1,
+                sent.key(), sent.value(), sent.headers(), Optional.empty());
+
+        KafkaListenerObservation.LISTENER_OBSERVATION
+                .observation(null, KafkaListenerObservation.DefaultKafkaListenerObservationConvention.INSTANCE,
+                        () -> new KafkaRecordReceiverContext(record, "orchestrator", () -> null), observationRegistry)
+                .observe(() -> { });
+    }
+
+    private KafkaTemplate<String, byte[]> observedKafkaTemplate() {
+        var context = new GenericApplicationContext();
+        context.registerBean(ObservationRegistry.class, () -> observationRegistry);
+        context.refresh();
+
+        var kafkaTemplate = new KafkaTemplate<>(new MockProducerFactory<String, byte[]>(() -> producer));
+        kafkaTemplate.setObservationEnabled(true);
+        kafkaTemplate.setApplicationContext(context);
+        kafkaTemplate.afterSingletonsInstantiated();
+        return kafkaTemplate;
+    }
+
+    private SpanData spanNamed(List<SpanData> spans, String name) {
+        return spans
+                .stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span named " + name + " in " + spans));
+    }
+
+}
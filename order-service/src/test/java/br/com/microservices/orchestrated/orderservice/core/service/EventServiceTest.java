@@ -0,0 +1,184 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.History;
+import br.com.microservices.orchestrated.orderservice.core.document.SagaHistory;
+import br.com.microservices.orchestrated.orderservice.core.repository.EventRepository;
+import br.com.microservices.orchestrated.orderservice.core.repository.SagaHistoryRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2023, 7, 20, 10, 15, 30, 123_000_000);
+    private static final String TRANSACTION_ID = "tx-1";
+
+    private EventRepository eventRepository;
+    private SagaHistoryRepository sagaHistoryRepository;
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        sagaHistoryRepository = mock(SagaHistoryRepository.class);
+        eventService = new EventService(eventRepository, sagaHistoryRepository, new ObjectMapper().findAndRegisterModules());
+
+        when(eventRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void notifyEndingReassemblesTheStoredDeltasInHistoryOrder() {
+        when(sagaHistoryRepository.findAllByTransactionIdOrderByCreatedAtAsc(TRANSACTION_ID))
+                .thenReturn(List.of(delta(2, "c", "d"), delta(0, "a", "b")));
+
+        eventService.notifyEnding(buildEndingEvent(5, "e"));
+
+        var saved = savedEvent();
+        assertThat(saved.getEventHistory()).extracting(History::getMessage).containsExactly("a", "b", "c", "d", "e");
+        assertThat(saved.getHistoryComplete()).isTrue();
+        verify(sagaHistoryRepository).deleteAllByTransactionId(TRANSACTION_ID);
+    }
+
+    @Test
+    void notifyEndingSavesAPartialHistoryWhileDeltasAreMissing() {
+        when(sagaHistoryRepository.findAllByTransactionIdOrderByCreatedAtAsc(TRANSACTION_ID))
+                .thenReturn(List.of(delta(0, "a", "b")));
+
+        eventService.notifyEnding(buildEndingEvent(5, "e"));
+
+        var saved = savedEvent();
+        var finalDelta = ArgumentCaptor.forClass(SagaHistory.class);
+        verify(sagaHistoryRepository).save(finalDelta.capture());
+        assertThat(saved.getEventHistory()).extracting(History::getMessage).containsExactly("a", "b", "e");
+        assertThat(saved.getHistoryComplete()).isFalse();
+        assertThat(finalDelta.getValue().getId()).isEqualTo(TRANSACTION_ID + ":4");
+        verify(sagaHistoryRepository, never()).deleteAllByTransactionId(TRANSACTION_ID);
+    }
+
+    @Test
+    void appendHistoryCompletesAPartialHistoryWhenTheLateDeltaArrives() {
+        var ended = buildEndingEvent(5, "a", "b", "e");
+        ended.setHistoryComplete(false);
+        when(eventRepository.findTop1ByTransactionIdAndHistoryCompleteFalse(TRANSACTION_ID)).thenReturn(Optional.of(ended));
+        when(sagaHistoryRepository.findAllByTransactionIdOrderByCreatedAtAsc(TRANSACTION_ID))
+                .thenReturn(List.of(delta(0, "a", "b"), delta(4, "e"), delta(2, "c", "d")));
+
+        eventService.appendHistory(buildEndingEvent(4, "c", "d"));
+
+        var saved = savedEvent();
+        assertThat(saved.getEventHistory()).extracting(History::getMessage).containsExactly("a", "b", "c", "d", "e");
+        assertThat(saved.getHistoryComplete()).isTrue();
+        verify(sagaHistoryRepository).deleteAllByTransactionId(TRANSACTION_ID);
+    }
+
+    @Test
+    void appendHistoryStoresADeltaWithoutHistorySizeUnpositioned() {
+        when(eventRepository.findTop1ByTransactionIdAndHistoryCompleteFalse(TRANSACTION_ID)).thenReturn(Optional.empty());
+
+        eventService.appendHistory(buildEndingEvent(null, "a"));
+
+        var stored = ArgumentCaptor.forClass(SagaHistory.class);
+        verify(sagaHistoryRepository).save(stored.capture());
+        assertThat(stored.getValue().getId()).isNull();
+        assertThat(stored.getValue().getStartIndex()).isNull();
+    }
+
+    @Test
+    void findPageReturnsACursorThatResumesAfterTheLastEventOfThePage() {
+        var first = buildEvent(CREATED_AT.plusSeconds(1));
+        var last = buildEvent(CREATED_AT);
+        var overflow = buildEvent(CREATED_AT.minusSeconds(1));
+        when(eventRepository.findAllBy(any(Pageable.class))).thenReturn(List.of(first, last, overflow));
+        when(eventRepository.findAllAfter(eq(CREATED_AT), eq(new ObjectId(last.getId())), any(Pageable.class))).thenReturn(List.of(overflow));
+
+        var page = eventService.findPage(null, 2);
+        var next = eventService.findPage(page.getNextCursor(), 2);
+
+        assertThat(page.getContent()).containsExactly(first, last);
+        assertThat(page.getNextCursor()).doesNotContain("=", "+", "/");
+        assertThat(next.getContent()).containsExactly(overflow);
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    void findPageLeavesTheCursorEmptyOnTheLastPage() {
+        when(eventRepository.findAllBy(any(Pageable.class))).thenReturn(List.of(buildEvent(CREATED_AT)));
+
+        assertThat(eventService.findPage(null, 2).getNextCursor()).isNull();
+    }
+
+    @Test
+    void findPageRejectsMalformedCursors() {
+        assertThatThrownBy(() -> eventService.findPage("not a cursor", 2))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid page cursor");
+    }
+
+    @Test
+    void findPageRejectsPageSizesOutOfRange() {
+        assertThatThrownBy(() -> eventService.findPage(null, 0)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> eventService.findPage(null, 1001)).isInstanceOf(ValidationException.class);
+    }
+
+    private Event savedEvent() {
+        var saved = ArgumentCaptor.forClass(Event.class);
+        verify(eventRepository).save(saved.capture());
+        return saved.getValue();
+    }
+
+    private SagaHistory delta(Integer startIndex, String... messages) {
+        return SagaHistory
+                .builder()
+                .id(TRANSACTION_ID + ":" + startIndex)
+                .transactionId(TRANSACTION_ID)
+                .startIndex(startIndex)
+                .entries(histories(messages))
+                .build();
+    }
+
+    private Event buildEndingEvent(Integer historySize, String... messages) {
+        return Event
+                .builder()
+                .transactionId(TRANSACTION_ID)
+                .eventHistory(histories(messages))
+                .historySize(historySize)
+                .build();
+    }
+
+    private List<History> histories(String... messages) {
+        return Stream
+                .of(messages)
+                .map(message -> History.builder().message(message).build())
+                .toList();
+    }
+
+    private Event buildEvent(LocalDateTime createdAt) {
+        return Event
+                .builder()
+                .id(new ObjectId().toHexString())
+                .createdAt(createdAt)
+                .build();
+    }
+
+}
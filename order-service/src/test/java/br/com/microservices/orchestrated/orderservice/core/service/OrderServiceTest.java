@@ -0,0 +1,129 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.document.OrderProducts;
+import br.com.microservices.orchestrated.orderservice.core.document.Product;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.enums.ESerializationFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OrderServiceTest {
+
+    private static final int DUPLICATE_KEY = 11000;
+    private static final int WRITE_CONFLICT = 112;
+
+    private MongoTemplate mongoTemplate;
+    private BulkOperations bulkOperations;
+    private EventCodec<Event> eventCodec;
+    private OutboxService outboxService;
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        bulkOperations = mock(BulkOperations.class);
+        eventCodec = new EventCodec<>(new ObjectMapper().findAndRegisterModules(), ESerializationFormat.SMILE, Event.class);
+        outboxService = mock(OutboxService.class);
+        orderService = new OrderService(mongoTemplate, eventCodec, outboxService);
+
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), any(Class.class))).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+    }
+
+    @Test
+    void createOrderAsyncAcceptsTheOrderWithASingleOutboxWrite() {
+        var response = orderService.createOrderAsync(buildRequest());
+
+        var payload = ArgumentCaptor.forClass(byte[].class);
+        verify(outboxService).save(eq(response.getTransactionId()), payload.capture());
+        verifyNoInteractions(mongoTemplate);
+
+        var event = eventCodec.decode(payload.getValue());
+        assertThat(event.getId()).isNotBlank();
+        assertThat(event.getOrderId()).isEqualTo(response.getOrderId());
+        assertThat(event.getPayload().getId()).isEqualTo(response.getOrderId());
+        assertThat(event.getPayload().getProducts()).hasSize(1);
+    }
+
+    @Test
+    void createOrderMaterializesTheOrderAndStartEventAfterTheOutboxWrite() {
+        var order = orderService.createOrder(buildRequest());
+
+        verify(outboxService).save(eq(order.getTransactionId()), any());
+        verify(mongoTemplate).bulkOps(BulkOperations.BulkMode.UNORDERED, Order.class);
+        verify(mongoTemplate).bulkOps(BulkOperations.BulkMode.UNORDERED, Event.class);
+        verify(bulkOperations).insert(List.of(order));
+    }
+
+    @Test
+    void materializeSkipsDocumentsThatWereAlreadyInserted() {
+        when(bulkOperations.execute()).thenThrow(bulkFailure(DUPLICATE_KEY));
+
+        assertThatNoException().isThrownBy(() -> orderService.materialize(List.of(buildEvent())));
+    }
+
+    @Test
+    void materializeRethrowsWriteErrorsOtherThanDuplicates() {
+        when(bulkOperations.execute()).thenThrow(bulkFailure(WRITE_CONFLICT));
+
+        assertThatThrownBy(() -> orderService.materialize(List.of(buildEvent())))
+                .isInstanceOf(BulkOperationException.class);
+    }
+
+    private BulkOperationException bulkFailure(int code) {
+        var error = new BulkWriteError(code, "write error", new BsonDocument(), 0);
+        var exception = new MongoBulkWriteException(BulkWriteResult.unacknowledged(), List.of(error), null, new ServerAddress(), Set.of());
+        return new BulkOperationException("write error", exception);
+    }
+
+    private Event buildEvent() {
+        var order = Order
+                .builder()
+                .id("64b7f0a1c2d3e4f5a6b7c8d9")
+                .transactionId("tx-1")
+                .build();
+
+        return Event
+                .builder()
+                .id("64b7f0a1c2d3e4f5a6b7c8da")
+                .orderId(order.getId())
+                .transactionId(order.getTransactionId())
+                .payload(order)
+                .build();
+    }
+
+    private OrderRequest buildRequest() {
+        return new OrderRequest(List.of(new OrderProducts(new Product("COMIC_BOOKS", new BigDecimal("10.00")), 2L)));
+    }
+
+}
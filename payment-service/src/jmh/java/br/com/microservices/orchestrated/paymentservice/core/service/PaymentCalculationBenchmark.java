@@ -0,0 +1,56 @@
+package br.com.microservices.orchestrated.paymentservice.core.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.dto.Order;
+import br.com.microservices.orchestrated.sagacommons.dto.OrderProducts;
+import br.com.microservices.orchestrated.sagacommons.dto.Product;
+
+@State(Scope.Benchmark)
+public class PaymentCalculationBenchmark {
+
+    @Param({ "1", "10", "100", "1000" })
+    private int items;
+
+    private PaymentService paymentService;
+    private Event event;
+
+    @Setup
+    public void setup() {
+        paymentService = new PaymentService(null, null, null);
+
+        var products = new ArrayList<OrderProducts>(items);
+
+        for (var i = 0; i < items; i++) {
+            products.add(new OrderProducts(new Product("PRODUCT_" + i, BigDecimal.valueOf(100L + i, 2)), (long) (i % 5) + 1));
+        }
+
+        event = Event.builder()
+                .transactionId(UUID.randomUUID().toString())
+                .payload(Order.builder()
+                        .id(UUID.randomUUID().toString())
+                        .products(products)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalAmount() {
+        return paymentService.calculateTotalAmount(event);
+    }
+
+    @Benchmark
+    public Integer calculateTotalItems() {
+        return paymentService.calculateTotalItems(event);
+    }
+
+}
@@ -0,0 +1,46 @@
+package br.com.microservices.orchestrated.paymentservice.config.kafka;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "spring.kafka.topic-settings")
+public class KafkaTopicProperties {
+
+    private Integer replicas = 1;
+
+    private Integer defaultPartitions = 1;
+
+    private Map<String, Integer> partitions = new HashMap<>();
+
+    private Map<String, Integer> concurrency = new HashMap<>();
+
+    public Integer getPartitionsFor(String topic) {
+        return partitions.getOrDefault(topic, defaultPartitions);
+    }
+
+    public Integer getConcurrencyFor(String topic) {
+        var partitionsCount = getPartitionsFor(topic);
+        return Math.min(concurrency.getOrDefault(topic, partitionsCount), partitionsCount);
+    }
+
+    public Integer getConcurrencyFor(String... topics) {
+        if (topics == null) {
+            return 1;
+        }
+
+        return Arrays
+                .stream(topics)
+                .mapToInt(this::getConcurrencyFor)
+                .max()
+                .orElse(1);
+    }
+
+}
@@ -0,0 +1,32 @@
+package br.com.microservices.orchestrated.paymentservice.config.kafka;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.retry.annotation.Backoff;
+
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodecException;
+import jakarta.validation.ValidationException;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@RetryableTopic(
+        attempts = "${spring.kafka.retry.attempts}",
+        backoff = @Backoff(
+                delayExpression = "${spring.kafka.retry.delay-ms}",
+                multiplierExpression = "${spring.kafka.retry.multiplier}",
+                maxDelayExpression = "${spring.kafka.retry.max-delay-ms}"
+        ),
+        kafkaTemplate = "kafkaTemplate",
+        numPartitions = "${spring.kafka.topic-settings.default-partitions}",
+        replicationFactor = "${spring.kafka.topic-settings.replicas}",
+        exclude = {EventCodecException.class, ValidationException.class},
+        traversingCauses = "true",
+        topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
+)
+public @interface SagaRetryableTopic {
+}
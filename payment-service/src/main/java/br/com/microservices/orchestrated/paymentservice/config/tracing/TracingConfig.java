@@ -0,0 +1,29 @@
+package br.com.microservices.orchestrated.paymentservice.config.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.microservices.orchestrated.sagacommons.tracing.InMemorySpanRecorder;
+import br.com.microservices.orchestrated.sagacommons.tracing.SagaTracing;
+import io.micrometer.observation.ObservationRegistry;
+
+@Configuration
+public class TracingConfig {
+
+    @Value("${management.tracing.in-memory.max-spans}")
+    private Integer inMemoryMaxSpans;
+
+    @Bean
+    public SagaTracing sagaTracing(ObservationRegistry observationRegistry) {
+        return new SagaTracing(observationRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "management.tracing.in-memory.enabled", havingValue = "true")
+    public InMemorySpanRecorder inMemorySpanRecorder() {
+        return new InMemorySpanRecorder(inMemoryMaxSpans);
+    }
+
+}
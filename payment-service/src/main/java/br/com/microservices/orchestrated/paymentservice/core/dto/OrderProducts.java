@@ -1,17 +0,0 @@
-package br.com.microservices.orchestrated.paymentservice.core.dto;
-
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class OrderProducts {
-
-    private Product products;
-    private Long quantity;
-
-
-}
@@ -14,6 +14,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,17 +27,20 @@ import static br.com.microservices.orchestrated.paymentservice.core.enums.EPayme
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "payment")
+@Table(
+        name = "payment",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payment_order_transaction", columnNames = {"order_id", "transaction_id"})
+)
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Integer id;
 
-    @Column(nullable = false)
+    @Column(name = "order_id", nullable = false)
     private String orderId;
 
-    @Column(nullable = false)
+    @Column(name = "transaction_id", nullable = false)
     private String transactionId;
 
     @Column(nullable = false)
@@ -58,7 +62,9 @@ public class Payment {
     @PrePersist
     public void prePersist() {
         var now = LocalDateTime.now();
-        status = PENDING;
+        if (status == null) {
+            status = PENDING;
+        }
         createdAt = now;
         updatedAt = now;
     }
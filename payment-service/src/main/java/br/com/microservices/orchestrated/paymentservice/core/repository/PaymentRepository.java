@@ -1,13 +1,19 @@
 package br.com.microservices.orchestrated.paymentservice.core.repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import br.com.microservices.orchestrated.paymentservice.core.model.Payment;
 
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
 
-    Boolean existsByOrderIdAndTransactionId(String orderId, String transactionId);
     Optional<Payment> findByOrderIdAndTransactionId(String orderId, String transactionId);
+
+    @Query("SELECT p.transactionId FROM Payment p WHERE p.transactionId IN :transactionIds")
+    Set<String> findExistingTransactionIds(@Param("transactionIds") Collection<String> transactionIds);
 }
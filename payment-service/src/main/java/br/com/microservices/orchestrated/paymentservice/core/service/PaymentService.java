@@ -1,82 +1,148 @@
 package br.com.microservices.orchestrated.paymentservice.core.service;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
-
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
 
-import br.com.microservices.orchestrated.paymentservice.core.dto.Event;
-import br.com.microservices.orchestrated.paymentservice.core.dto.History;
-import br.com.microservices.orchestrated.paymentservice.core.dto.OrderProducts;
 import br.com.microservices.orchestrated.paymentservice.core.enums.EPaymentStatus;
-import br.com.microservices.orchestrated.paymentservice.core.enums.ESagaStatus;
 import br.com.microservices.orchestrated.paymentservice.core.model.Payment;
 import br.com.microservices.orchestrated.paymentservice.core.producer.KafkaProducer;
 import br.com.microservices.orchestrated.paymentservice.core.repository.PaymentRepository;
-import br.com.microservices.orchestrated.paymentservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.dto.History;
+import br.com.microservices.orchestrated.sagacommons.dto.OrderProducts;
+import br.com.microservices.orchestrated.sagacommons.enums.EEventSource;
+import br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage;
+import br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus;
 import jakarta.validation.ValidationException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import static br.com.microservices.orchestrated.paymentservice.core.enums.ESagaStatus.FAIL;
-import static br.com.microservices.orchestrated.paymentservice.core.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage.PAYMENT_FAIL;
+import static br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage.PAYMENT_ROLLBACK;
+import static br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage.PAYMENT_SUCCESS;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.FAIL;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.ROLLBACK_PENDING;
 
 @Slf4j
 @Service
 @AllArgsConstructor
 public class PaymentService {
 
-    private static final String CURRENT_SOURCE = "PAYMENT_SERVICE";
+    private static final EEventSource CURRENT_SOURCE = EEventSource.PAYMENT_SERVICE;
+    private static final BigDecimal MIN_AMOUNT = new BigDecimal("0.10");
 
-    private final JsonUtil jsonUtil;
+    private final EventCodec<Event> eventCodec;
     private final KafkaProducer kafkaProducer;
     private final PaymentRepository paymentRepository;
 
-    public void realizePayment(Event event) {
+    public CompletableFuture<?> realizePayment(Event event) {
 
         try {
-            checkCurrentPayment(event);
-            createPendingPayment(event);
+            var payment = buildApprovedPayment(event);
 
-            var payment = findByOrderAndTransactionId(event);
-            validateAmount(payment.getTotalAmount());
-            changePaymentToSuccess(payment);
+            if (!insertPayment(payment) && !replayExistingPayment(event)) {
+                return CompletableFuture.completedFuture(null);
+            }
 
             handleSuccess(event);
+        } catch (TransientDataAccessException | DataAccessResourceFailureException | CannotCreateTransactionException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error trying to realize payment: {}", e.getMessage());
             handleFailCurrentNotExecuted(event, e.getMessage());
         }
 
-        kafkaProducer.sendEvent(jsonUtil.toJson(event));
+        return kafkaProducer.sendEvent(event.getTransactionId(), eventCodec.encode(event));
+    }
+
+    public void realizePayments(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        var existingTransactions = new HashSet<>(paymentRepository.findExistingTransactionIds(getTransactionIds(events)));
+        var approvedEvents = new ArrayList<Event>();
+        var approvedPayments = new ArrayList<Payment>();
+        var duplicateEvents = new ArrayList<Event>();
+
+        events.forEach(event -> {
+            try {
+                if (!existingTransactions.add(event.getTransactionId())) {
+                    duplicateEvents.add(event);
+                    return;
+                }
+
+                approvedPayments.add(buildApprovedPayment(event));
+                approvedEvents.add(event);
+            } catch (Exception e) {
+                log.error("Error trying to realize payment: {}", e.getMessage());
+                handleFailCurrentNotExecuted(event, e.getMessage());
+            }
+        });
+
+        var droppedEvents = Collections.newSetFromMap(new IdentityHashMap<Event, Boolean>());
+        insertPayments(approvedEvents, approvedPayments, droppedEvents);
+        replayExistingPayments(duplicateEvents, droppedEvents);
+
+        var sends = events
+                .stream()
+                .filter(event -> !droppedEvents.contains(event))
+                .map(event -> kafkaProducer.sendEvent(event.getTransactionId(), eventCodec.encode(event)))
+                .toArray(CompletableFuture[]::new);
+        kafkaProducer.flush();
+        CompletableFuture.allOf(sends).join();
     }
 
-    public void realizeRefound(Event event) {
+    public CompletableFuture<?> realizeRefound(Event event) {
         changePaymentStatusToRefound(event);
 
         event.setStatus(FAIL);
         event.setSource(CURRENT_SOURCE);
-        addHistory(event, "Rollback executed on payment!");
-
-        kafkaProducer.sendEvent(jsonUtil.toJson(event));
-
+        addHistory(event, PAYMENT_ROLLBACK);
 
+        return kafkaProducer.sendEvent(event.getTransactionId(), eventCodec.encode(event));
     }
 
     public void changePaymentStatusToRefound(Event event) {
-        var payment =  findByOrderAndTransactionId(event);
+        paymentRepository.findByOrderIdAndTransactionId(event.getOrderId(), event.getTransactionId())
+                .ifPresentOrElse(payment -> refundPayment(event, payment), () -> createRefundedPayment(event));
+    }
 
+    private void refundPayment(Event event, Payment payment) {
         payment.setStatus(EPaymentStatus.REFUND);
         setEventAmountItens(event, payment);
 
         save(payment);
     }
 
+    private void createRefundedPayment(Event event) {
+        var payment = buildPendingPayment(event);
+        payment.setStatus(EPaymentStatus.REFUND);
+
+        if (!insertPayment(payment)) {
+            paymentRepository.findByOrderIdAndTransactionId(event.getOrderId(), event.getTransactionId())
+                    .ifPresent(existingPayment -> refundPayment(event, existingPayment));
+        }
+    }
+
     private void handleFailCurrentNotExecuted(Event event, String message) {
         event.setStatus(ROLLBACK_PENDING);
         event.setSource(CURRENT_SOURCE);
 
-        addHistory(event, "Fail trying to realize payment: " + message);
+        addHistory(event, PAYMENT_FAIL, message);
     }
 
 
@@ -84,33 +150,108 @@ public class PaymentService {
         event.setStatus(ESagaStatus.SUCCESS);
         event.setSource(CURRENT_SOURCE);
 
-        addHistory(event, "Payment realized successfully!");
+        addHistory(event, PAYMENT_SUCCESS);
+    }
+
+    private void addHistory(Event event, EHistoryMessage message) {
+        addHistory(event, message, null);
     }
 
-    private void addHistory(Event event, String message) {
+    private void addHistory(Event event, EHistoryMessage message, String detail) {
         var history = History
                 .builder()
                 .source(event.getSource())
                 .status(event.getStatus())
                 .message(message)
-                .createdAt(LocalDateTime.now())
+                .detail(detail)
+                .createdAt(System.currentTimeMillis())
                 .build();
 
         event.addToHistory(history);
     }
 
-    private void changePaymentToSuccess(Payment payment) {
-        payment.setStatus(EPaymentStatus.SUCCESS);
-        save(payment);
+    private boolean insertPayment(Payment payment) {
+        try {
+            paymentRepository.saveAndFlush(payment);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
     }
 
-    private void checkCurrentPayment(Event event) {
-        if (paymentRepository.existsByOrderIdAndTransactionId(event.getOrderId(), event.getTransactionId())) {
-            throw new ValidationException("Payment already exists for this order!");
+    private boolean replayExistingPayment(Event event) {
+        var existingPayment = paymentRepository.findByOrderIdAndTransactionId(event.getPayload().getId(), event.getTransactionId());
+
+        if (existingPayment.isPresent() && EPaymentStatus.SUCCESS.equals(existingPayment.get().getStatus())) {
+            log.info("Payment already realized for transaction {}, replaying its outcome", event.getTransactionId());
+            setEventAmountItens(event, existingPayment.get());
+            return true;
         }
+
+        if (existingPayment.isPresent() && EPaymentStatus.REFUND.equals(existingPayment.get().getStatus())) {
+            log.warn("Payment of transaction {} was already refunded, dropping the late payment event", event.getTransactionId());
+            return false;
+        }
+
+        log.warn("Dropping duplicate payment event for transaction {}", event.getTransactionId());
+        return false;
+    }
+
+    private void replayExistingPayments(List<Event> events, Set<Event> droppedEvents) {
+        events.forEach(event -> {
+            try {
+                if (replayExistingPayment(event)) {
+                    handleSuccess(event);
+                } else {
+                    droppedEvents.add(event);
+                }
+            } catch (TransientDataAccessException | DataAccessResourceFailureException | CannotCreateTransactionException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error("Error trying to replay payment: {}", e.getMessage());
+                droppedEvents.add(event);
+            }
+        });
+    }
+
+    private void insertPayments(List<Event> events, List<Payment> payments, Set<Event> droppedEvents) {
+        try {
+            paymentRepository.saveAll(payments);
+            events.forEach(this::handleSuccess);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Conflict inserting a batch of {} payments, inserting them one by one", payments.size());
+
+            for (var i = 0; i < payments.size(); i++) {
+                var event = events.get(i);
+                var payment = payments.get(i);
+                payment.setId(null);
+
+                try {
+                    if (insertPayment(payment)) {
+                        handleSuccess(event);
+                    } else {
+                        replayExistingPayments(List.of(event), droppedEvents);
+                    }
+                } catch (TransientDataAccessException | DataAccessResourceFailureException | CannotCreateTransactionException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    log.error("Error trying to realize payment: {}", ex.getMessage());
+                    handleFailCurrentNotExecuted(event, ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private Payment buildApprovedPayment(Event event) {
+        var payment = buildPendingPayment(event);
+
+        validateAmount(payment.getTotalAmount());
+        payment.setStatus(EPaymentStatus.SUCCESS);
+
+        return payment;
     }
 
-    private void createPendingPayment(Event event) {
+    private Payment buildPendingPayment(Event event) {
         var totalAmout = calculateTotalAmount(event);
         var totalItems = calculateTotalItems(event);
 
@@ -121,9 +262,15 @@ public class PaymentService {
                 .totalAmount(totalAmout)
                 .build();
 
-        this.save(payment);
-
         setEventAmountItens(event, payment);
+        return payment;
+    }
+
+    private List<String> getTransactionIds(List<Event> events) {
+        return events
+                .stream()
+                .map(Event::getTransactionId)
+                .toList();
     }
 
     private void setEventAmountItens(Event event, Payment payment) {
@@ -131,16 +278,16 @@ public class PaymentService {
         event.getPayload().setTotalItems(Long.valueOf(payment.getTotalItems()));
     }
 
-    private BigDecimal calculateTotalAmount(Event event) {
+    BigDecimal calculateTotalAmount(Event event) {
         return event
                 .getPayload()
                 .getProducts()
                 .stream()
-                .map(product -> product.getProducts().getUnitValue().multiply(BigDecimal.valueOf(product.getQuantity())))
+                .map(product -> product.getProduct().getUnitValue().multiply(BigDecimal.valueOf(product.getQuantity())))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
-    private Integer calculateTotalItems(Event event) {
+    Integer calculateTotalItems(Event event) {
         return Math.toIntExact(event
                 .getPayload()
                 .getProducts()
@@ -149,18 +296,13 @@ public class PaymentService {
                 .reduce(0L, Long::sum));
     }
 
-    private Payment findByOrderAndTransactionId(Event event) {
-        return paymentRepository.findByOrderIdAndTransactionId(event.getOrderId(), event.getTransactionId())
-                .orElseThrow(() -> new ValidationException("Payment not found by order and transaction id!"));
-    }
-
     private void save(Payment payment) {
         paymentRepository.save(payment);
     }
 
     private void validateAmount(BigDecimal amount) {
-        if(amount.compareTo(BigDecimal.ZERO) <= 0.10) {
-            throw new ValidationException("Amount must be greater than 0.10!");
+        if (amount.compareTo(MIN_AMOUNT) < 0) {
+            throw new ValidationException("Amount must be at least 0.10!");
         }
     }
 
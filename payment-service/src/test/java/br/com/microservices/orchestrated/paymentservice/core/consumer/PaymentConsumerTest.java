@@ -0,0 +1,140 @@
+package br.com.microservices.orchestrated.paymentservice.core.consumer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.microservices.orchestrated.paymentservice.core.service.PaymentService;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodecException;
+import br.com.microservices.orchestrated.sagacommons.consumer.PendingSendInterceptor;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.enums.ESerializationFormat;
+import br.com.microservices.orchestrated.sagacommons.logging.SagaEventLogger;
+import br.com.microservices.orchestrated.sagacommons.metrics.SagaMetrics;
+import br.com.microservices.orchestrated.sagacommons.tracing.SagaTracing;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentConsumerTest {
+
+    private static final String TOPIC = "payment-success";
+
+    private EventCodec<Event> eventCodec;
+    private PaymentService paymentService;
+    private PendingSendInterceptor<String, byte[]> pendingSendInterceptor;
+    private Consumer<String, byte[]> consumer;
+    private PaymentConsumer paymentConsumer;
+
+    @BeforeEach
+    void setUp() {
+        eventCodec = new EventCodec<>(new ObjectMapper().findAndRegisterModules(), ESerializationFormat.SMILE, Event.class);
+        paymentService = mock(PaymentService.class);
+        pendingSendInterceptor = new PendingSendInterceptor<>();
+        consumer = mock(Consumer.class);
+        paymentConsumer = new PaymentConsumer(
+                eventCodec,
+                new SagaMetrics(new SimpleMeterRegistry()),
+                new SagaTracing(ObservationRegistry.NOOP),
+                new SagaEventLogger(0.0),
+                pendingSendInterceptor,
+                paymentService
+        );
+    }
+
+    @Test
+    void consumeSuccessSagaEventAcknowledgesOnlyAfterThePollSendsComplete() {
+        var send = new CompletableFuture<Object>();
+        var acknowledgment = mock(Acknowledgment.class);
+        when(paymentService.realizePayment(any())).thenAnswer(invocation -> send);
+
+        consume(0L, acknowledgment);
+        verify(acknowledgment, never()).acknowledge();
+
+        send.complete(null);
+        pendingSendInterceptor.clearThreadState(consumer);
+
+        verify(acknowledgment).acknowledge();
+        verify(consumer, never()).seek(any(), any(Long.class));
+    }
+
+    @Test
+    void consumeSuccessSagaEventSeeksBackToTheFirstRecordWhoseSendFailed() {
+        var acknowledgments = List.of(mock(Acknowledgment.class), mock(Acknowledgment.class), mock(Acknowledgment.class));
+        when(paymentService.realizePayment(any())).thenReturn(
+                CompletableFuture.completedFuture(null),
+                CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")),
+                CompletableFuture.completedFuture(null));
+
+        for (var offset = 0; offset < acknowledgments.size(); offset++) {
+            consume(offset, acknowledgments.get(offset));
+        }
+        pendingSendInterceptor.clearThreadState(consumer);
+
+        verify(acknowledgments.get(0)).acknowledge();
+        verify(acknowledgments.get(1), never()).acknowledge();
+        verify(acknowledgments.get(2), never()).acknowledge();
+        verify(consumer).seek(new TopicPartition(TOPIC, 0), 1L);
+    }
+
+    @Test
+    void consumeSuccessSagaEventsReportsTheIndexOfAnUndecodableRecord() {
+        var payloads = List.of(
+                encode("tx-1"),
+                "not an event".getBytes(StandardCharsets.UTF_8),
+                encode("tx-3")
+        );
+
+        assertThatThrownBy(() -> paymentConsumer.consumeSuccessSagaEvents(payloads, List.of(TOPIC, TOPIC, TOPIC)))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isEqualTo(1))
+                .hasCauseInstanceOf(EventCodecException.class);
+        verify(paymentService, never()).realizePayments(anyList());
+    }
+
+    @Test
+    void consumeSuccessSagaEventsHandsTheDecodedBatchToTheService() {
+        var payloads = List.of(encode("tx-1"), encode("tx-2"));
+
+        paymentConsumer.consumeSuccessSagaEvents(payloads, List.of(TOPIC, TOPIC));
+
+        verify(paymentService).realizePayments(argThat(events -> events
+                .stream()
+                .map(Event::getTransactionId)
+                .toList()
+                .equals(List.of("tx-1", "tx-2"))));
+    }
+
+    private void consume(long offset, Acknowledgment acknowledgment) {
+        var payload = encode("tx-" + offset);
+        pendingSendInterceptor.intercept(new ConsumerRecord<>(TOPIC, 0, offset, "tx-" + offset, payload), consumer);
+        paymentConsumer.consumeSuccessSagaEvent(payload, TOPIC, acknowledgment);
+    }
+
+    private byte[] encode(String transactionId) {
+        return eventCodec.encode(Event
+                .builder()
+                .transactionId(transactionId)
+                .build());
+    }
+
+}
@@ -0,0 +1,152 @@
+package br.com.microservices.orchestrated.paymentservice.core.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.microservices.orchestrated.paymentservice.core.enums.EPaymentStatus;
+import br.com.microservices.orchestrated.paymentservice.core.model.Payment;
+import br.com.microservices.orchestrated.paymentservice.core.producer.KafkaProducer;
+import br.com.microservices.orchestrated.paymentservice.core.repository.PaymentRepository;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.dto.Order;
+import br.com.microservices.orchestrated.sagacommons.dto.OrderProducts;
+import br.com.microservices.orchestrated.sagacommons.dto.Product;
+import br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus;
+import br.com.microservices.orchestrated.sagacommons.enums.ESerializationFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentServiceTest {
+
+    private static final String ORDER_ID = "order-1";
+    private static final String TRANSACTION_ID = "tx-1";
+
+    private EventCodec<Event> eventCodec;
+    private KafkaProducer kafkaProducer;
+    private PaymentRepository paymentRepository;
+    private PaymentService paymentService;
+
+    @BeforeEach
+    void setUp() {
+        eventCodec = new EventCodec<>(new ObjectMapper().findAndRegisterModules(), ESerializationFormat.SMILE, Event.class);
+        kafkaProducer = mock(KafkaProducer.class);
+        paymentRepository = mock(PaymentRepository.class);
+        paymentService = new PaymentService(eventCodec, kafkaProducer, paymentRepository);
+
+        when(kafkaProducer.sendEvent(anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    void realizePaymentReplaysTheStoredOutcomeWhenThePaymentAlreadySucceeded() {
+        when(paymentRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_payment_order_transaction"));
+        when(paymentRepository.findByOrderIdAndTransactionId(ORDER_ID, TRANSACTION_ID))
+                .thenReturn(Optional.of(storedPayment(EPaymentStatus.SUCCESS)));
+
+        paymentService.realizePayment(buildEvent());
+
+        var sent = sentEvent();
+        assertThat(sent.getStatus()).isEqualTo(ESagaStatus.SUCCESS);
+        assertThat(sent.getPayload().getTotalAmount()).isEqualByComparingTo("20.00");
+        assertThat(sent.getPayload().getTotalItems()).isEqualTo(2L);
+    }
+
+    @Test
+    void realizePaymentDropsTheDuplicateWhenTheStoredPaymentDidNotSucceed() {
+        when(paymentRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_payment_order_transaction"));
+        when(paymentRepository.findByOrderIdAndTransactionId(ORDER_ID, TRANSACTION_ID))
+                .thenReturn(Optional.of(storedPayment(EPaymentStatus.REFUND)));
+
+        paymentService.realizePayment(buildEvent());
+
+        verify(kafkaProducer, never()).sendEvent(anyString(), any());
+    }
+
+    @Test
+    void realizePaymentsReplaysAlreadyStoredTransactionsWithoutInsertingThemAgain() {
+        when(paymentRepository.findExistingTransactionIds(List.of(TRANSACTION_ID))).thenReturn(Set.of(TRANSACTION_ID));
+        when(paymentRepository.findByOrderIdAndTransactionId(ORDER_ID, TRANSACTION_ID))
+                .thenReturn(Optional.of(storedPayment(EPaymentStatus.SUCCESS)));
+
+        paymentService.realizePayments(List.of(buildEvent()));
+
+        verify(paymentRepository).saveAll(List.of());
+        assertThat(sentEvent().getStatus()).isEqualTo(ESagaStatus.SUCCESS);
+    }
+
+    @Test
+    void realizeRefoundStoresARefundedPaymentWhenThePaymentWasNotRealizedYet() {
+        when(paymentRepository.findByOrderIdAndTransactionId(ORDER_ID, TRANSACTION_ID)).thenReturn(Optional.empty());
+
+        paymentService.realizeRefound(buildEvent());
+
+        var tombstone = ArgumentCaptor.forClass(Payment.class);
+        verify(paymentRepository).saveAndFlush(tombstone.capture());
+        assertThat(tombstone.getValue().getStatus()).isEqualTo(EPaymentStatus.REFUND);
+        assertThat(sentEvent().getStatus()).isEqualTo(ESagaStatus.FAIL);
+    }
+
+    @Test
+    void realizeRefoundRefundsThePaymentRealizedConcurrently() {
+        var concurrentPayment = storedPayment(EPaymentStatus.SUCCESS);
+        when(paymentRepository.findByOrderIdAndTransactionId(ORDER_ID, TRANSACTION_ID))
+                .thenReturn(Optional.empty(), Optional.of(concurrentPayment));
+        when(paymentRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_payment_order_transaction"));
+
+        paymentService.realizeRefound(buildEvent());
+
+        verify(paymentRepository).save(concurrentPayment);
+        assertThat(concurrentPayment.getStatus()).isEqualTo(EPaymentStatus.REFUND);
+    }
+
+    private Event sentEvent() {
+        var payload = ArgumentCaptor.forClass(byte[].class);
+        verify(kafkaProducer).sendEvent(eq(TRANSACTION_ID), payload.capture());
+        return eventCodec.decode(payload.getValue());
+    }
+
+    private Payment storedPayment(EPaymentStatus status) {
+        return Payment
+                .builder()
+                .orderId(ORDER_ID)
+                .transactionId(TRANSACTION_ID)
+                .totalItems(2)
+                .totalAmount(new BigDecimal("20.00"))
+                .status(status)
+                .build();
+    }
+
+    private Event buildEvent() {
+        var order = Order
+                .builder()
+                .id(ORDER_ID)
+                .transactionId(TRANSACTION_ID)
+                .products(List.of(new OrderProducts(new Product("COMIC_BOOKS", new BigDecimal("10.00")), 2L)))
+                .build();
+
+        return Event
+                .builder()
+                .orderId(ORDER_ID)
+                .transactionId(TRANSACTION_ID)
+                .payload(order)
+                .build();
+    }
+
+}
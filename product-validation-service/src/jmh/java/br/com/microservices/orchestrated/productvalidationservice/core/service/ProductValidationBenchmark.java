@@ -0,0 +1,140 @@
+package br.com.microservices.orchestrated.productvalidationservice.core.service;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.kafka.support.SendResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import br.com.microservices.orchestrated.productvalidationservice.core.cache.ProductCatalogCache;
+import br.com.microservices.orchestrated.productvalidationservice.core.producer.KafkaProducer;
+import br.com.microservices.orchestrated.productvalidationservice.core.repository.ProductRepository;
+import br.com.microservices.orchestrated.productvalidationservice.core.repository.ValidationRepository;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.dto.Order;
+import br.com.microservices.orchestrated.sagacommons.dto.OrderProducts;
+import br.com.microservices.orchestrated.sagacommons.dto.Product;
+import br.com.microservices.orchestrated.sagacommons.enums.EEventSource;
+import br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus;
+import br.com.microservices.orchestrated.sagacommons.enums.ESerializationFormat;
+
+import static java.util.stream.Collectors.toSet;
+
+@State(Scope.Thread)
+public class ProductValidationBenchmark {
+
+    private static final int CATALOG_SIZE = 1000;
+
+    @Param({ "1", "10", "100" })
+    private int products;
+
+    private ProductValidationService productValidationService;
+    private Event event;
+
+    @Setup
+    public void setup() {
+        var catalog = new HashSet<String>(CATALOG_SIZE);
+
+        for (var i = 0; i < CATALOG_SIZE; i++) {
+            catalog.add("PRODUCT_" + i);
+        }
+
+        var productRepository = inMemory(ProductRepository.class, Map.of(
+                "findExistingCodes", args -> findExisting(catalog, (Collection<?>) args[0])
+        ));
+        var validationRepository = inMemory(ValidationRepository.class, Map.of(
+                "existsByOrderIdAndTransactionId", args -> Boolean.FALSE,
+                "save", args -> args[0]
+        ));
+        var objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        productValidationService = new ProductValidationService(
+                new EventCodec<>(objectMapper, ESerializationFormat.SMILE, Event.class),
+                new KafkaProducer(null, null, null, null) {
+                    @Override
+                    public CompletableFuture<SendResult<String, byte[]>> sendEvent(String key, byte[] payload) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                },
+                new ProductCatalogCache(productRepository),
+                validationRepository
+        );
+        event = buildEvent();
+    }
+
+    @Benchmark
+    public Event validateExistingProduct() {
+        event.setSource(EEventSource.ORCHESTRATOR);
+        event.setStatus(ESagaStatus.SUCCESS);
+        event.setEventHistory(null);
+
+        productValidationService.validateExistingProduct(event);
+        return event;
+    }
+
+    private Event buildEvent() {
+        var orderProducts = new ArrayList<OrderProducts>(products);
+
+        for (var i = 0; i < products; i++) {
+            orderProducts.add(new OrderProducts(new Product("PRODUCT_" + (i * 7 % CATALOG_SIZE), BigDecimal.TEN), 1L));
+        }
+
+        var transactionId = UUID.randomUUID().toString();
+        var orderId = UUID.randomUUID().toString();
+
+        return Event.builder()
+                .id(UUID.randomUUID().toString())
+                .transactionId(transactionId)
+                .orderId(orderId)
+                .payload(Order.builder()
+                        .id(orderId)
+                        .transactionId(transactionId)
+                        .products(orderProducts)
+                        .build())
+                .build();
+    }
+
+    private static Set<String> findExisting(Set<String> catalog, Collection<?> codes) {
+        return codes
+                .stream()
+                .map(String.class::cast)
+                .filter(catalog::contains)
+                .collect(toSet());
+    }
+
+    private static <T> T inMemory(Class<T> repository, Map<String, Function<Object[], Object>> methods) {
+        return repository.cast(Proxy.newProxyInstance(
+                repository.getClassLoader(),
+                new Class<?>[] { repository },
+                (proxy, method, args) -> {
+                    var handler = methods.get(method.getName());
+
+                    if (handler == null) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+
+                    return handler.apply(args);
+                }
+        ));
+    }
+
+}
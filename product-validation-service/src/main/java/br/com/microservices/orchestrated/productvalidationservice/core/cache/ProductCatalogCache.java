@@ -0,0 +1,187 @@
+package br.com.microservices.orchestrated.productvalidationservice.core.cache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import br.com.microservices.orchestrated.productvalidationservice.core.model.Product;
+import br.com.microservices.orchestrated.productvalidationservice.core.repository.ProductRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static java.util.Collections.emptySet;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCatalogCache implements MeterBinder {
+
+    private static final CatalogSnapshot EMPTY_SNAPSHOT = new CatalogSnapshot(Set.of(), 0, false);
+
+    private final ProductRepository productRepository;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Set<String> pendingCodes = ConcurrentHashMap.newKeySet();
+
+    private volatile CatalogSnapshot snapshot = EMPTY_SNAPSHOT;
+
+    @Value("${product-catalog.cache.enabled}")
+    private Boolean enabled;
+
+    @Value("${product-catalog.cache.max-size}")
+    private Integer maxSize;
+
+    public Set<String> findExistingCodes(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return emptySet();
+        }
+
+        var current = snapshot;
+
+        if (!current.loaded()) {
+            return productRepository.findExistingCodes(codes);
+        }
+
+        var existingCodes = new HashSet<String>();
+        var missingCodes = new HashSet<String>();
+
+        codes.forEach(code -> {
+            if (current.codes().contains(code) || pendingCodes.contains(code)) {
+                existingCodes.add(code);
+            } else {
+                missingCodes.add(code);
+            }
+        });
+
+        hits.add(existingCodes.size());
+        misses.add(missingCodes.size());
+
+        if (!missingCodes.isEmpty()) {
+            var foundCodes = productRepository.findExistingCodes(missingCodes);
+            existingCodes.addAll(foundCodes);
+            addPendingCodes(current, foundCodes);
+        }
+
+        return existingCodes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    @Scheduled(
+            initialDelayString = "${product-catalog.cache.full-refresh-interval}",
+            fixedDelayString = "${product-catalog.cache.full-refresh-interval}"
+    )
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+
+        var products = productRepository.findAll();
+        mergeSnapshot(products, true);
+
+        log.info("Product catalog cache reloaded with {} codes. Hits: {}, misses: {}", size(), getHits(), getMisses());
+    }
+
+    @Scheduled(
+            initialDelayString = "${product-catalog.cache.refresh-interval}",
+            fixedDelayString = "${product-catalog.cache.refresh-interval}"
+    )
+    public void refreshNewProducts() {
+        var current = snapshot;
+
+        if (!current.loaded()) {
+            return;
+        }
+
+        var products = productRepository.findByIdGreaterThanOrderByIdAsc(current.lastProductId());
+
+        if (!products.isEmpty() || !pendingCodes.isEmpty()) {
+            mergeSnapshot(products, false);
+        }
+
+        if (!products.isEmpty()) {
+            log.info("Product catalog cache refreshed with {} new products", products.size());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("product.catalog.cache.hits", this, cache -> cache.getHits()).register(registry);
+        FunctionCounter.builder("product.catalog.cache.misses", this, cache -> cache.getMisses()).register(registry);
+        Gauge.builder("product.catalog.cache.size", this, cache -> cache.size()).register(registry);
+    }
+
+    public Integer size() {
+        return snapshot.codes().size();
+    }
+
+    public Long getHits() {
+        return hits.sum();
+    }
+
+    public Long getMisses() {
+        return misses.sum();
+    }
+
+    private void addPendingCodes(CatalogSnapshot current, Set<String> codes) {
+        if (codes.isEmpty() || current.codes().size() + pendingCodes.size() + codes.size() > maxSize) {
+            return;
+        }
+
+        pendingCodes.addAll(codes);
+    }
+
+    private synchronized void mergeSnapshot(List<Product> products, Boolean fullReload) {
+        var current = fullReload ? EMPTY_SNAPSHOT : snapshot;
+
+        if (!fullReload && !current.loaded()) {
+            return;
+        }
+
+        var updatedCodes = new HashSet<>(current.codes());
+        var updatedLastProductId = current.lastProductId();
+
+        for (var iterator = pendingCodes.iterator(); iterator.hasNext(); ) {
+            updatedCodes.add(iterator.next());
+            iterator.remove();
+        }
+
+        for (var product : products) {
+            updatedCodes.add(product.getCode());
+            updatedLastProductId = Math.max(updatedLastProductId, product.getId());
+        }
+
+        updateSnapshot(updatedCodes, updatedLastProductId);
+    }
+
+    private void updateSnapshot(Set<String> codes, Integer lastProductId) {
+        if (codes.size() > maxSize) {
+            log.warn("Product catalog has {} codes, above the cache limit of {}. Falling back to the database.", codes.size(), maxSize);
+            snapshot = EMPTY_SNAPSHOT;
+            return;
+        }
+
+        snapshot = new CatalogSnapshot(Set.copyOf(codes), lastProductId, true);
+    }
+
+    private record CatalogSnapshot(Set<String> codes, Integer lastProductId, Boolean loaded) {
+    }
+
+}
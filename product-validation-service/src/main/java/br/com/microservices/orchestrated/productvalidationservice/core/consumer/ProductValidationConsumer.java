@@ -1,41 +1,101 @@
 package br.com.microservices.orchestrated.productvalidationservice.core.consumer;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import br.com.microservices.orchestrated.productvalidationservice.config.kafka.SagaRetryableTopic;
 import br.com.microservices.orchestrated.productvalidationservice.core.service.ProductValidationService;
-import br.com.microservices.orchestrated.productvalidationservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodecException;
+import br.com.microservices.orchestrated.sagacommons.consumer.PendingSendInterceptor;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.logging.SagaEventLogger;
+import br.com.microservices.orchestrated.sagacommons.metrics.SagaMetrics;
+import br.com.microservices.orchestrated.sagacommons.tracing.SagaTracing;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
-@Slf4j
+import static br.com.microservices.orchestrated.sagacommons.tracing.SagaTracing.EVENT_DECODE;
+
 @Component
 @AllArgsConstructor
 public class ProductValidationConsumer {
 
-    private final JsonUtil jsonUtil;
+    private final EventCodec<Event> eventCodec;
+    private final SagaMetrics sagaMetrics;
+    private final SagaTracing sagaTracing;
+    private final SagaEventLogger sagaEventLogger;
+    private final PendingSendInterceptor<String, byte[]> pendingSendInterceptor;
     private final ProductValidationService productValidationService;
 
+    @SagaRetryableTopic
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.product-validation-success}",
+            autoStartup = "#{!${spring.kafka.consumer.batch.enabled}}"
+    )
+    public void consumeSuccessSagaEvent(byte[] payload, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic, Acknowledgment acknowledgment) {
+        var event = sagaTracing.observe(EVENT_DECODE, topic, () -> eventCodec.decode(payload));
+        sagaEventLogger.received(topic, event);
+
+        sagaMetrics.recordListener(topic, event.getSource(), event.getStatus(), () -> pendingSendInterceptor.acknowledgeWhenSent(productValidationService.validateExistingProduct(event), acknowledgment));
+    }
+
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.product-validation-success}"
+            topics = "${spring.kafka.topic.product-validation-success}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${spring.kafka.consumer.batch.enabled}"
     )
-    public void consumeSuccessSagaEvent(String payload) {
-        log.info("Receiving success event {} from product-validation-success topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeSuccessSagaEvents(List<byte[]> payloads, @Header(KafkaHeaders.RECEIVED_TOPIC) List<String> topics) {
+        sagaEventLogger.receivedBatch(topics.get(0), payloads.size());
+        var events = sagaTracing.observe(EVENT_DECODE, topics.get(0), () -> decodeBatch(payloads));
 
-        productValidationService.validateExistingProduct(event);
+        sagaMetrics.recordBatch(topics.get(0), events.size(), () -> productValidationService.validateExistingProducts(events));
     }
 
+    @SagaRetryableTopic
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.product-validation-fail}"
     )
-    public void consumeFailEvent(String payload) {
-        log.info("Receiving rollback event {} from product-validation-fail topic", payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumeFailEvent(byte[] payload, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic, Acknowledgment acknowledgment) {
+        var event = sagaTracing.observe(EVENT_DECODE, topic, () -> eventCodec.decode(payload));
+        sagaEventLogger.received(topic, event);
+
+        sagaMetrics.recordListener(topic, event.getSource(), event.getStatus(), () -> pendingSendInterceptor.acknowledgeWhenSent(productValidationService.rollbackEvent(event), acknowledgment));
+    }
+
+    @DltHandler
+    public void consumeDeadLetter(@Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                                  @Header(name = KafkaHeaders.RECEIVED_KEY, required = false) String key,
+                                  @Header(name = KafkaHeaders.EXCEPTION_CAUSE_FQCN, required = false) String exception,
+                                  @Header(name = KafkaHeaders.EXCEPTION_MESSAGE, required = false) String message,
+                                  Acknowledgment acknowledgment) {
+        sagaEventLogger.deadLettered(topic, key, exception, message);
+        sagaMetrics.recordDeadLetter(topic, exception);
+        acknowledgment.acknowledge();
+    }
+
+    private List<Event> decodeBatch(List<byte[]> payloads) {
+        var events = new ArrayList<Event>(payloads.size());
+
+        for (var i = 0; i < payloads.size(); i++) {
+            try {
+                events.add(eventCodec.decode(payloads.get(i)));
+            } catch (EventCodecException e) {
+                throw new BatchListenerFailedException("Error decoding batch record " + i, e, i);
+            }
+        }
 
-        productValidationService.rollbackEvent(event);
+        return events;
     }
 
 }
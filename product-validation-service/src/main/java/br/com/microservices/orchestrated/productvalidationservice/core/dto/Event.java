@@ -1,35 +0,0 @@
-package br.com.microservices.orchestrated.productvalidationservice.core.dto;
-
-import java.util.ArrayList;
-import java.util.List;
-
-import br.com.microservices.orchestrated.productvalidationservice.core.enums.ESagaStatus;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class Event {
-
-    private String id;
-
-    private String transactionId;
-
-    private String orderId;
-
-    private Order payload;
-
-    private String source;
-
-    private ESagaStatus status;
-
-    private List<History> eventHistory = new ArrayList<>();
-
-    public void addToHistory(History history) {
-       eventHistory.add(history);
-    }
-}
@@ -1,8 +1,13 @@
 package br.com.microservices.orchestrated.productvalidationservice.core.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import br.com.microservices.orchestrated.productvalidationservice.core.model.Product;
 
@@ -11,4 +16,9 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
     Boolean existsByCode(String code);
 
     Optional<Product> findByCode(String code);
+
+    List<Product> findByIdGreaterThanOrderByIdAsc(Integer id);
+
+    @Query("SELECT p.code FROM Product p WHERE p.code IN :codes")
+    Set<String> findExistingCodes(@Param("codes") Collection<String> codes);
 }
@@ -1,8 +1,12 @@
 package br.com.microservices.orchestrated.productvalidationservice.core.repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import br.com.microservices.orchestrated.productvalidationservice.core.model.Validation;
 
@@ -12,4 +16,7 @@ public interface ValidationRepository extends JpaRepository<Validation, Integer>
 
     Optional<Validation> findByOrderIdAndTransactionId(String orderId, String transactionId);
 
+    @Query("SELECT v.transactionId FROM Validation v WHERE v.transactionId IN :transactionIds")
+    Set<String> findExistingTransactionIds(@Param("transactionIds") Collection<String> transactionIds);
+
 }
@@ -1,24 +1,40 @@
 package br.com.microservices.orchestrated.productvalidationservice.core.service;
 
-import java.time.LocalDateTime;
-
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
 
 import br.com.microservices.orchestrated.productvalidationservice.config.exception.ValidationException;
-import br.com.microservices.orchestrated.productvalidationservice.core.dto.Event;
-import br.com.microservices.orchestrated.productvalidationservice.core.dto.History;
-import br.com.microservices.orchestrated.productvalidationservice.core.dto.OrderProducts;
+import br.com.microservices.orchestrated.productvalidationservice.core.cache.ProductCatalogCache;
 import br.com.microservices.orchestrated.productvalidationservice.core.model.Validation;
 import br.com.microservices.orchestrated.productvalidationservice.core.producer.KafkaProducer;
-import br.com.microservices.orchestrated.productvalidationservice.core.repository.ProductRepository;
 import br.com.microservices.orchestrated.productvalidationservice.core.repository.ValidationRepository;
-import br.com.microservices.orchestrated.productvalidationservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagacommons.codec.EventCodec;
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.dto.History;
+import br.com.microservices.orchestrated.sagacommons.dto.Order;
+import br.com.microservices.orchestrated.sagacommons.dto.OrderProducts;
+import br.com.microservices.orchestrated.sagacommons.dto.Product;
+import br.com.microservices.orchestrated.sagacommons.enums.EEventSource;
+import br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import static br.com.microservices.orchestrated.productvalidationservice.core.enums.ESagaStatus.FAIL;
-import static br.com.microservices.orchestrated.productvalidationservice.core.enums.ESagaStatus.ROLLBACK_PENDING;
-import static br.com.microservices.orchestrated.productvalidationservice.core.enums.ESagaStatus.SUCCESS;
+import static br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage.PRODUCT_VALIDATION_FAIL;
+import static br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage.PRODUCT_VALIDATION_ROLLBACK;
+import static br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage.PRODUCT_VALIDATION_SUCCESS;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.FAIL;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus.SUCCESS;
+import static java.util.stream.Collectors.toSet;
 import static org.springframework.util.ObjectUtils.isEmpty;
 
 @Slf4j
@@ -26,14 +42,14 @@ import static org.springframework.util.ObjectUtils.isEmpty;
 @AllArgsConstructor
 public class ProductValidationService {
 
-    private static final String CURRENT_SOURCE = "PRODUCT_VALIDATION_SERVICE";
+    private static final EEventSource CURRENT_SOURCE = EEventSource.PRODUCT_VALIDATION_SERVICE;
 
-    private final JsonUtil jsonUtil;
+    private final EventCodec<Event> eventCodec;
     private final KafkaProducer kafkaProducer;
-    private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
     private final ValidationRepository validationRepository;
 
-    public void validateExistingProduct(Event event) {
+    public CompletableFuture<?> validateExistingProduct(Event event) {
 
         try {
             checkCurrentValidation(event);
@@ -41,23 +57,61 @@ public class ProductValidationService {
             createValidation(event, Boolean.TRUE);
 
             handleSuccess(event);
+        } catch (TransientDataAccessException | DataAccessResourceFailureException | CannotCreateTransactionException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error trying to validate products: {}", e.getMessage());
             handleFailCurrentNotExecuted(event, e.getMessage());
         }
 
+        return kafkaProducer.sendEvent(event.getTransactionId(), eventCodec.encode(event));
+    }
+
+    public void validateExistingProducts(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        var existingValidations = new HashSet<>(validationRepository.findExistingTransactionIds(getTransactionIds(events)));
+        var existingCodes = productCatalogCache.findExistingCodes(getProductCodes(events));
+        var validations = new ArrayList<Validation>();
+
+        events.forEach(event -> {
+            try {
+                validateProductsInformed(event);
 
-        kafkaProducer.sendEvent(jsonUtil.toJson(event));
+                if (!existingValidations.add(event.getTransactionId())) {
+                    throw new ValidationException("There's another validation in progress for this order");
+                }
+
+                validateExistingProducts(event, existingCodes);
+
+                validations.add(buildValidation(event, Boolean.TRUE));
+                handleSuccess(event);
+            } catch (Exception e) {
+                log.error("Error trying to validate products: {}", e.getMessage());
+                handleFailCurrentNotExecuted(event, e.getMessage());
+            }
+        });
+
+        validationRepository.saveAll(validations);
+
+        var sends = events
+                .stream()
+                .map(event -> kafkaProducer.sendEvent(event.getTransactionId(), eventCodec.encode(event)))
+                .toArray(CompletableFuture[]::new);
+        kafkaProducer.flush();
+        CompletableFuture.allOf(sends).join();
     }
 
-    public void rollbackEvent(Event event) {
+    public CompletableFuture<?> rollbackEvent(Event event) {
         changeValidationToFail(event);
 
         event.setStatus(FAIL);
         event.setSource(CURRENT_SOURCE);
-        addHistory(event, "Rollback executed on product validation!");
+        addHistory(event, PRODUCT_VALIDATION_ROLLBACK);
 
-        kafkaProducer.sendEvent(jsonUtil.toJson(event));
+        return kafkaProducer.sendEvent(event.getTransactionId(), eventCodec.encode(event));
     }
 
     private void changeValidationToFail(Event event) {
@@ -73,35 +127,42 @@ public class ProductValidationService {
         event.setStatus(ROLLBACK_PENDING);
         event.setSource(CURRENT_SOURCE);
 
-        addHistory(event, "Fail To validate products: ".concat(message));
+        addHistory(event, PRODUCT_VALIDATION_FAIL, message);
     }
 
 
     private void createValidation(Event event, Boolean success) {
-        var validation = Validation
+        validationRepository.save(buildValidation(event, success));
+    }
+
+    private Validation buildValidation(Event event, Boolean success) {
+        return Validation
                 .builder()
                 .orderId(event.getPayload().getId())
                 .transactionId(event.getTransactionId())
                 .success(success)
                 .build();
-
-        validationRepository.save(validation);
     }
 
     private void handleSuccess(Event event) {
         event.setStatus(SUCCESS);
         event.setSource(CURRENT_SOURCE);
 
-        addHistory(event, "Products validated successfully");
+        addHistory(event, PRODUCT_VALIDATION_SUCCESS);
+    }
+
+    private void addHistory(Event event, EHistoryMessage message) {
+        addHistory(event, message, null);
     }
 
-    private void addHistory(Event event, String message) {
+    private void addHistory(Event event, EHistoryMessage message, String detail) {
         var history = History
                 .builder()
                 .source(event.getSource())
                 .status(event.getStatus())
                 .message(message)
-                .createdAt(LocalDateTime.now())
+                .detail(detail)
+                .createdAt(System.currentTimeMillis())
                 .build();
 
         event.addToHistory(history);
@@ -115,11 +176,7 @@ public class ProductValidationService {
             throw new ValidationException("There's another validation in progress for this order");
         }
 
-        event.getPayload().getProducts().forEach(product -> {
-            validateProductInformed(product);
-            validateExistingProduct(product.getProduct().getCode());
-        });
-
+        validateExistingProducts(event, productCatalogCache.findExistingCodes(getProductCodes(List.of(event))));
     }
 
     private void validateProductInformed(OrderProducts product) {
@@ -128,12 +185,45 @@ public class ProductValidationService {
         }
     }
 
-    private void validateExistingProduct(String code) {
-        if (Boolean.FALSE.equals(productRepository.existsByCode(code))) {
-            throw new ValidationException("Product does not exist in database");
+    private void validateExistingProducts(Event event, Set<String> existingCodes) {
+        event.getPayload().getProducts().forEach(this::validateProductInformed);
+
+        var missingCodes = event
+                .getPayload()
+                .getProducts()
+                .stream()
+                .map(product -> product.getProduct().getCode())
+                .filter(code -> !existingCodes.contains(code))
+                .distinct()
+                .toList();
+
+        if (!missingCodes.isEmpty()) {
+            throw new ValidationException("Products do not exist in database: ".concat(String.join(", ", missingCodes)));
         }
     }
 
+    private List<String> getTransactionIds(List<Event> events) {
+        return events
+                .stream()
+                .map(Event::getTransactionId)
+                .toList();
+    }
+
+    private Set<String> getProductCodes(List<Event> events) {
+        return events
+                .stream()
+                .map(Event::getPayload)
+                .filter(Objects::nonNull)
+                .map(Order::getProducts)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .map(OrderProducts::getProduct)
+                .filter(Objects::nonNull)
+                .map(Product::getCode)
+                .filter(Objects::nonNull)
+                .collect(toSet());
+    }
+
     private void validateProductsInformed(Event event) {
         if (isEmpty(event.getPayload()) || isEmpty(event.getPayload().getProducts())) {
             throw new ValidationException("Product List is empty");
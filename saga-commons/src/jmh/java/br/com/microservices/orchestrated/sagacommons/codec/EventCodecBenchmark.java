@@ -0,0 +1,112 @@
+package br.com.microservices.orchestrated.sagacommons.codec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.dto.History;
+import br.com.microservices.orchestrated.sagacommons.dto.Order;
+import br.com.microservices.orchestrated.sagacommons.dto.OrderProducts;
+import br.com.microservices.orchestrated.sagacommons.dto.Product;
+import br.com.microservices.orchestrated.sagacommons.enums.EEventSource;
+import br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage;
+import br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus;
+import br.com.microservices.orchestrated.sagacommons.enums.ESerializationFormat;
+
+@State(Scope.Benchmark)
+public class EventCodecBenchmark {
+
+    private static final int PRODUCTS = 5;
+    private static final EEventSource[] SAGA_STEPS = EEventSource.values();
+
+    @Param({ "JSON", "SMILE" })
+    private ESerializationFormat format;
+
+    private ObjectMapper objectMapper;
+    private EventCodec<Event> codec;
+    private Event event;
+    private byte[] legacyPayload;
+    private byte[] codecPayload;
+
+    @Setup
+    public void setup() throws Exception {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        codec = new EventCodec<>(objectMapper, format, Event.class);
+        event = buildEvent();
+        legacyPayload = objectMapper.writeValueAsString(event).getBytes(StandardCharsets.UTF_8);
+        codecPayload = codec.encode(event);
+    }
+
+    @Benchmark
+    public byte[] legacyEncode() throws Exception {
+        return objectMapper.writeValueAsString(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Event legacyDecode() throws Exception {
+        return objectMapper.readValue(new String(legacyPayload, StandardCharsets.UTF_8), Event.class);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public Event codecDecode() {
+        return codec.decode(codecPayload);
+    }
+
+    private Event buildEvent() {
+        var products = new ArrayList<OrderProducts>(PRODUCTS);
+
+        for (var i = 0; i < PRODUCTS; i++) {
+            products.add(new OrderProducts(new Product("PRODUCT_" + i, BigDecimal.valueOf(10L + i, 2)), i + 1L));
+        }
+
+        var transactionId = UUID.randomUUID().toString();
+        var order = Order.builder()
+                .id(UUID.randomUUID().toString())
+                .transactionId(transactionId)
+                .createdAt(LocalDateTime.now())
+                .products(products)
+                .totalAmount(BigDecimal.valueOf(1550, 2))
+                .totalItems(15L)
+                .build();
+        var event = Event.builder()
+                .id(UUID.randomUUID().toString())
+                .transactionId(transactionId)
+                .orderId(order.getId())
+                .payload(order)
+                .source(EEventSource.INVENTORY_SERVICE)
+                .status(ESagaStatus.SUCCESS)
+                .build();
+
+        for (var source : SAGA_STEPS) {
+            event.addToHistory(History.builder()
+                    .source(source)
+                    .status(ESagaStatus.SUCCESS)
+                    .message(EHistoryMessage.PAYMENT_SUCCESS)
+                    .createdAt(System.currentTimeMillis())
+                    .build());
+        }
+
+        return event;
+    }
+
+}
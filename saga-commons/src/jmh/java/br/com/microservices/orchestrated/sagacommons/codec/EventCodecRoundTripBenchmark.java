@@ -0,0 +1,89 @@
+package br.com.microservices.orchestrated.sagacommons.codec;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.dto.History;
+import br.com.microservices.orchestrated.sagacommons.dto.Order;
+import br.com.microservices.orchestrated.sagacommons.dto.OrderProducts;
+import br.com.microservices.orchestrated.sagacommons.dto.Product;
+import br.com.microservices.orchestrated.sagacommons.enums.EEventSource;
+import br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage;
+import br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus;
+import br.com.microservices.orchestrated.sagacommons.enums.ESerializationFormat;
+
+@State(Scope.Benchmark)
+public class EventCodecRoundTripBenchmark {
+
+    private static final EEventSource[] SOURCES = EEventSource.values();
+
+    @Param({ "1", "10", "100" })
+    private int historySize;
+
+    @Param({ "JSON", "SMILE" })
+    private ESerializationFormat format;
+
+    private EventCodec<Event> codec;
+    private Event event;
+
+    @Setup
+    public void setup() {
+        var objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        codec = new EventCodec<>(objectMapper, format, Event.class);
+        event = buildEvent();
+    }
+
+    @Benchmark
+    public Event roundTrip() {
+        return codec.decode(codec.encode(event));
+    }
+
+    private Event buildEvent() {
+        var transactionId = UUID.randomUUID().toString();
+        var order = Order.builder()
+                .id(UUID.randomUUID().toString())
+                .transactionId(transactionId)
+                .createdAt(LocalDateTime.now())
+                .products(List.of(
+                        new OrderProducts(new Product("COMIC_BOOKS", BigDecimal.valueOf(1550, 2)), 2L),
+                        new OrderProducts(new Product("BOOKS", BigDecimal.valueOf(990, 2)), 1L)))
+                .totalAmount(BigDecimal.valueOf(4090, 2))
+                .totalItems(3L)
+                .build();
+        var event = Event.builder()
+                .id(UUID.randomUUID().toString())
+                .transactionId(transactionId)
+                .orderId(order.getId())
+                .payload(order)
+                .source(EEventSource.ORCHESTRATOR)
+                .status(ESagaStatus.SUCCESS)
+                .build();
+
+        for (var i = 0; i < historySize; i++) {
+            event.addToHistory(History.builder()
+                    .source(SOURCES[i % SOURCES.length])
+                    .status(ESagaStatus.SUCCESS)
+                    .message(EHistoryMessage.PAYMENT_SUCCESS)
+                    .createdAt(System.currentTimeMillis())
+                    .build());
+        }
+
+        return event;
+    }
+
+}
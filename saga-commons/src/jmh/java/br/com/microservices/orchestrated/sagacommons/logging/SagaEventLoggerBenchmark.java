@@ -0,0 +1,122 @@
+package br.com.microservices.orchestrated.sagacommons.logging;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+import br.com.microservices.orchestrated.sagacommons.dto.History;
+import br.com.microservices.orchestrated.sagacommons.dto.Order;
+import br.com.microservices.orchestrated.sagacommons.dto.OrderProducts;
+import br.com.microservices.orchestrated.sagacommons.dto.Product;
+import br.com.microservices.orchestrated.sagacommons.enums.EEventSource;
+import br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage;
+import br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+
+@State(Scope.Benchmark)
+public class SagaEventLoggerBenchmark {
+
+    public enum Mode {
+        PAYLOAD_AT_INFO,
+        STRUCTURED,
+        STRUCTURED_SAMPLED_PAYLOAD
+    }
+
+    private static final Logger LEGACY_LOG = LoggerFactory.getLogger("saga.legacy");
+    private static final EEventSource[] SOURCES = EEventSource.values();
+    private static final String TOPIC = "payment-success";
+    private static final Double SAMPLE_RATE = 0.01;
+
+    @Param({ "1", "10", "100" })
+    private int historySize;
+
+    @Param({ "PAYLOAD_AT_INFO", "STRUCTURED", "STRUCTURED_SAMPLED_PAYLOAD" })
+    private Mode mode;
+
+    private SagaEventLogger sagaEventLogger;
+    private Event event;
+
+    @Setup
+    public void setup() {
+        var context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        var encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %5p [%thread] %logger{36} : %msg%n");
+        encoder.start();
+
+        var appender = new OutputStreamAppender<ILoggingEvent>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        var root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        context.getLogger(SagaEventLogger.PAYLOAD_LOGGER)
+                .setLevel(mode == Mode.STRUCTURED_SAMPLED_PAYLOAD ? Level.DEBUG : Level.INFO);
+
+        sagaEventLogger = new SagaEventLogger(SAMPLE_RATE);
+        event = buildEvent();
+    }
+
+    @Benchmark
+    public void logReceivedEvent() {
+        if (mode == Mode.PAYLOAD_AT_INFO) {
+            LEGACY_LOG.info("Receiving success event {} from payment-success topic", event);
+        } else {
+            sagaEventLogger.received(TOPIC, event);
+        }
+    }
+
+    private Event buildEvent() {
+        var transactionId = UUID.randomUUID().toString();
+        var order = Order.builder()
+                .id(UUID.randomUUID().toString())
+                .transactionId(transactionId)
+                .createdAt(LocalDateTime.now())
+                .products(List.of(
+                        new OrderProducts(new Product("COMIC_BOOKS", BigDecimal.valueOf(1550, 2)), 2L),
+                        new OrderProducts(new Product("BOOKS", BigDecimal.valueOf(990, 2)), 1L)))
+                .totalAmount(BigDecimal.valueOf(4090, 2))
+                .totalItems(3L)
+                .build();
+        var event = Event.builder()
+                .id(UUID.randomUUID().toString())
+                .transactionId(transactionId)
+                .orderId(order.getId())
+                .payload(order)
+                .source(EEventSource.PAYMENT_SERVICE)
+                .status(ESagaStatus.SUCCESS)
+                .build();
+
+        for (var i = 0; i < historySize; i++) {
+            event.addToHistory(History.builder()
+                    .source(SOURCES[i % SOURCES.length])
+                    .status(ESagaStatus.SUCCESS)
+                    .message(EHistoryMessage.PAYMENT_SUCCESS)
+                    .createdAt(System.currentTimeMillis())
+                    .build());
+        }
+
+        return event;
+    }
+
+}
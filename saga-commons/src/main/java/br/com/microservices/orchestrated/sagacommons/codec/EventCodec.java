@@ -0,0 +1,52 @@
+package br.com.microservices.orchestrated.sagacommons.codec;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import br.com.microservices.orchestrated.sagacommons.enums.ESerializationFormat;
+
+public class EventCodec<T> {
+
+    private static final byte[] SMILE_HEADER = { ':', ')', '\n' };
+
+    private final ObjectReader jsonReader;
+    private final ObjectReader smileReader;
+    private final ObjectWriter writer;
+
+    public EventCodec(ObjectMapper objectMapper, ESerializationFormat format, Class<T> type) {
+        var smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.jsonReader = objectMapper.readerFor(type);
+        this.smileReader = smileMapper.readerFor(type);
+        this.writer = ESerializationFormat.SMILE.equals(format)
+                ? smileMapper.writerFor(type)
+                : objectMapper.writerFor(type);
+    }
+
+    public byte[] encode(T value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new EventCodecException("Error encoding event", e);
+        }
+    }
+
+    public T decode(byte[] payload) {
+        try {
+            return readerFor(payload).readValue(payload);
+        } catch (IOException e) {
+            throw new EventCodecException("Error decoding event", e);
+        }
+    }
+
+    private ObjectReader readerFor(byte[] payload) {
+        var isSmile = payload.length >= SMILE_HEADER.length
+                && Arrays.equals(payload, 0, SMILE_HEADER.length, SMILE_HEADER, 0, SMILE_HEADER.length);
+        return isSmile ? smileReader : jsonReader;
+    }
+
+}
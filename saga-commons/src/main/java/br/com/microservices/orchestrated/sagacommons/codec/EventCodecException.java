@@ -0,0 +1,8 @@
+package br.com.microservices.orchestrated.sagacommons.codec;
+
+public class EventCodecException extends RuntimeException {
+
+    public EventCodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.microservices.orchestrated.sagacommons.consumer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.kafka.support.Acknowledgment;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class PendingSendInterceptor<K, V> implements RecordInterceptor<K, V> {
+
+    private final ThreadLocal<ConsumerRecord<K, V>> currentRecord = new ThreadLocal<>();
+    private final ThreadLocal<List<PendingSend>> pendingSends = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public ConsumerRecord<K, V> intercept(ConsumerRecord<K, V> record, Consumer<K, V> consumer) {
+        currentRecord.set(record);
+        return record;
+    }
+
+    public void acknowledgeWhenSent(CompletableFuture<?> sends, Acknowledgment acknowledgment) {
+        var record = currentRecord.get();
+
+        if (record == null) {
+            sends.join();
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        pendingSends.get().add(new PendingSend(new TopicPartition(record.topic(), record.partition()), record.offset(), sends, acknowledgment));
+    }
+
+    @Override
+    public void clearThreadState(Consumer<?, ?> consumer) {
+        currentRecord.remove();
+        var pending = pendingSends.get();
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        var failedPartitions = new HashSet<TopicPartition>();
+        pending.forEach(send -> {
+            if (failedPartitions.contains(send.partition())) {
+                return;
+            }
+
+            if (isSent(send)) {
+                send.acknowledgment().acknowledge();
+                return;
+            }
+
+            failedPartitions.add(send.partition());
+            consumer.seek(send.partition(), send.offset());
+            log.warn("Sends for record {}@{} failed, seeking back to redeliver it", send.partition(), send.offset());
+        });
+        pending.clear();
+    }
+
+    private boolean isSent(PendingSend send) {
+        try {
+            send.sends().join();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private record PendingSend(TopicPartition partition, long offset, CompletableFuture<?> sends, Acknowledgment acknowledgment) {
+    }
+
+}
@@ -0,0 +1,53 @@
+package br.com.microservices.orchestrated.sagacommons.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import br.com.microservices.orchestrated.sagacommons.enums.EEventSource;
+import br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class Event {
+
+    private static final int INITIAL_HISTORY_CAPACITY = 8;
+
+    private String id;
+
+    private String transactionId;
+
+    private String orderId;
+
+    private Order payload;
+
+    private EEventSource source;
+
+    private ESagaStatus status;
+
+    private List<History> eventHistory;
+
+    private Integer historySize;
+
+    public void addToHistory(History history) {
+        if (eventHistory == null) {
+            eventHistory = new ArrayList<>(INITIAL_HISTORY_CAPACITY);
+        }
+        eventHistory.add(history);
+        historySize = historySize == null ? 1 : historySize + 1;
+    }
+
+    public List<History> drainHistory() {
+        var delta = eventHistory;
+        eventHistory = null;
+        return delta;
+    }
+}
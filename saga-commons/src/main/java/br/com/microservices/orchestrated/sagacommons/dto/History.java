@@ -0,0 +1,34 @@
+package br.com.microservices.orchestrated.sagacommons.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import br.com.microservices.orchestrated.sagacommons.enums.EEventSource;
+import br.com.microservices.orchestrated.sagacommons.enums.EHistoryMessage;
+import br.com.microservices.orchestrated.sagacommons.enums.ESagaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({ "source", "status", "message", "createdAt", "detail" })
+public class History {
+
+    @JsonFormat(shape = JsonFormat.Shape.NUMBER)
+    private EEventSource source;
+
+    @JsonFormat(shape = JsonFormat.Shape.NUMBER)
+    private ESagaStatus status;
+
+    private EHistoryMessage message;
+
+    private Long createdAt;
+
+    private String detail;
+
+}
@@ -1,9 +1,11 @@
-package br.com.microservices.orchestrated.productvalidationservice.core.dto;
+package br.com.microservices.orchestrated.sagacommons.dto;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,6 +15,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class Order {
 
     private String id;
@@ -27,5 +30,4 @@ public class Order {
 
     private Long totalItems;
 
-
 }
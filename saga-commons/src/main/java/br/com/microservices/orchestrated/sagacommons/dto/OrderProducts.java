@@ -1,4 +1,4 @@
-package br.com.microservices.orchestrated.productvalidationservice.core.dto;
+package br.com.microservices.orchestrated.sagacommons.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -12,5 +12,4 @@ public class OrderProducts {
     private Product product;
     private Long quantity;
 
-
 }
@@ -0,0 +1,56 @@
+package br.com.microservices.orchestrated.sagacommons.enums;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum EHistoryMessage {
+
+    SAGA_STARTED(1, "Saga started!"),
+    SAGA_FINISHED_SUCCESS(2, "Saga finished successfully!"),
+    SAGA_FINISHED_FAIL(3, "Saga finished with errors!"),
+    SAGA_STEP_TIMEOUT(4, "Saga step timed out waiting for "),
+    PRODUCT_VALIDATION_SUCCESS(10, "Products validated successfully"),
+    PRODUCT_VALIDATION_FAIL(11, "Fail To validate products: "),
+    PRODUCT_VALIDATION_ROLLBACK(12, "Rollback executed on product validation!"),
+    PAYMENT_SUCCESS(20, "Payment realized successfully!"),
+    PAYMENT_FAIL(21, "Fail trying to realize payment: "),
+    PAYMENT_ROLLBACK(22, "Rollback executed on payment!"),
+    INVENTORY_SUCCESS(30, "Inventory updated successfully!"),
+    INVENTORY_FAIL(31, "Fail to update inventory: "),
+    INVENTORY_ROLLBACK(32, "Rollback executed for inventory!"),
+    INVENTORY_ROLLBACK_FAIL(33, "Rollback not executed for inventory: ");
+
+    private static final Map<Integer, EHistoryMessage> BY_CODE = Arrays
+            .stream(values())
+            .collect(Collectors.toMap(EHistoryMessage::getCode, Function.identity()));
+
+    @JsonValue
+    private final Integer code;
+
+    private final String template;
+
+    @JsonCreator
+    public static EHistoryMessage fromCode(Integer code) {
+        var message = BY_CODE.get(code);
+
+        if (message == null) {
+            throw new IllegalArgumentException("Unknown history message code: " + code);
+        }
+
+        return message;
+    }
+
+    public String format(String detail) {
+        return detail == null ? template : template.concat(detail);
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.microservices.orchestrated.sagacommons.enums;
+
+public enum ESerializationFormat {
+    JSON,
+    SMILE
+}
@@ -0,0 +1,68 @@
+package br.com.microservices.orchestrated.sagacommons.logging;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.microservices.orchestrated.sagacommons.dto.Event;
+
+public class SagaEventLogger {
+
+    public static final String EVENT_LOGGER = "saga.event";
+    public static final String PAYLOAD_LOGGER = "saga.payload";
+
+    private static final Logger EVENT_LOG = LoggerFactory.getLogger(EVENT_LOGGER);
+    private static final Logger PAYLOAD_LOG = LoggerFactory.getLogger(PAYLOAD_LOGGER);
+
+    private final Double payloadSampleRate;
+
+    public SagaEventLogger(Double payloadSampleRate) {
+        this.payloadSampleRate = payloadSampleRate;
+    }
+
+    public void received(String topic, Event event) {
+        var createdAt = event.getPayload() != null ? event.getPayload().getCreatedAt() : null;
+        received(topic, event.getTransactionId(), event.getOrderId(), event.getSource(), event.getStatus(), createdAt, event);
+    }
+
+    public void received(String topic, String transactionId, String orderId, Object source, Object status,
+                         LocalDateTime createdAt, Object payload) {
+        if (EVENT_LOG.isInfoEnabled()) {
+            EVENT_LOG.info("event=received topic={} transactionId={} orderId={} source={} status={} sagaAgeMs={}",
+                    topic, transactionId, orderId, source, status, ageMillis(createdAt));
+        }
+
+        logPayload(topic, transactionId, payload);
+    }
+
+    public void receivedBatch(String topic, Integer size) {
+        EVENT_LOG.info("event=received-batch topic={} size={}", topic, size);
+    }
+
+    public void sent(String topic, String transactionId, Integer bytes) {
+        EVENT_LOG.info("event=sent topic={} transactionId={} bytes={}", topic, transactionId, bytes);
+    }
+
+    public void deadLettered(String topic, String transactionId, String exception, String message) {
+        EVENT_LOG.warn("event=dead-lettered topic={} transactionId={} exception={} message={}",
+                topic, transactionId, exception, message);
+    }
+
+    private void logPayload(String topic, String transactionId, Object payload) {
+        if (PAYLOAD_LOG.isDebugEnabled() && isSampled()) {
+            PAYLOAD_LOG.debug("event=payload topic={} transactionId={} payload={}", topic, transactionId, payload);
+        }
+    }
+
+    private boolean isSampled() {
+        return payloadSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < payloadSampleRate;
+    }
+
+    private Long ageMillis(LocalDateTime createdAt) {
+        return createdAt != null ? Duration.between(createdAt, LocalDateTime.now()).toMillis() : null;
+    }
+
+}
@@ -0,0 +1,129 @@
+package br.com.microservices.orchestrated.sagacommons.metrics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class SagaMetrics {
+
+    public static final String LISTENER = "saga.listener";
+    public static final String LISTENER_BATCH = "saga.listener.batch";
+    public static final String LISTENER_BATCH_SIZE = "saga.listener.batch.size";
+    public static final String PRODUCER_SEND = "saga.producer.send";
+    public static final String TRANSITIONS = "saga.transitions";
+    public static final String DURATION = "saga.duration";
+    public static final String DEAD_LETTER = "saga.dead-letter";
+
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public SagaMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordListener(String topic, Object source, Object status, Runnable handler) {
+        var sample = Timer.start(meterRegistry);
+        var outcome = ERROR;
+
+        try {
+            handler.run();
+            outcome = SUCCESS;
+        } finally {
+            sample.stop(Timer
+                    .builder(LISTENER)
+                    .tag("topic", topic)
+                    .tag("source", tagValue(source))
+                    .tag("status", tagValue(status))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    public void recordBatch(String topic, Integer size, Runnable handler) {
+        var sample = Timer.start(meterRegistry);
+        var outcome = ERROR;
+
+        try {
+            handler.run();
+            outcome = SUCCESS;
+        } finally {
+            sample.stop(Timer
+                    .builder(LISTENER_BATCH)
+                    .tag("topic", topic)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            DistributionSummary
+                    .builder(LISTENER_BATCH_SIZE)
+                    .tag("topic", topic)
+                    .register(meterRegistry)
+                    .record(size);
+        }
+    }
+
+    public <T> CompletableFuture<T> recordSend(String topic, Supplier<CompletableFuture<T>> send) {
+        var sample = Timer.start(meterRegistry);
+
+        try {
+            return send
+                    .get()
+                    .whenComplete((result, e) -> stopSend(sample, topic, e == null ? SUCCESS : ERROR));
+        } catch (RuntimeException e) {
+            stopSend(sample, topic, ERROR);
+            throw e;
+        }
+    }
+
+    public void recordTransition(Object source, Object status, String nextTopic) {
+        Counter
+                .builder(TRANSITIONS)
+                .tag("source", tagValue(source))
+                .tag("status", tagValue(status))
+                .tag("topic", nextTopic)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordSagaDuration(Object status, LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return;
+        }
+
+        Timer
+                .builder(DURATION)
+                .tag("status", tagValue(status))
+                .register(meterRegistry)
+                .record(Duration.between(createdAt, LocalDateTime.now()));
+    }
+
+    public void recordDeadLetter(String topic, String exception) {
+        Counter
+                .builder(DEAD_LETTER)
+                .tag("topic", topic)
+                .tag("exception", tagValue(exception))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void stopSend(Timer.Sample sample, String topic, String outcome) {
+        sample.stop(Timer
+                .builder(PRODUCER_SEND)
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private String tagValue(Object value) {
+        return Objects.toString(value, NONE);
+    }
+
+}
@@ -0,0 +1,12 @@
+package br.com.microservices.orchestrated.sagacommons.producer;
+
+public class InFlightLimitExceededException extends RuntimeException {
+
+    public InFlightLimitExceededException(String message) {
+        super(message);
+    }
+
+    public InFlightLimitExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.microservices.orchestrated.sagacommons.producer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class InFlightLimiter implements MeterBinder {
+
+    public static final String IN_FLIGHT = "saga.producer.in-flight";
+
+    private final Semaphore permits;
+    private final Integer maxInFlight;
+    private final Long acquireTimeoutMs;
+
+    public InFlightLimiter(Integer maxInFlight, Long acquireTimeoutMs) {
+        this.permits = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> send) {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new InFlightLimitExceededException(
+                        "Timed out after %d ms waiting for one of %d in-flight sends".formatted(acquireTimeoutMs, maxInFlight));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InFlightLimitExceededException("Interrupted waiting for one of %d in-flight sends".formatted(maxInFlight), e);
+        }
+
+        try {
+            return send
+                    .get()
+                    .whenComplete((result, e) -> permits.release());
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public Integer getInFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(IN_FLIGHT, this, limiter -> limiter.getInFlight()).register(registry);
+    }
+
+}
@@ -0,0 +1,32 @@
+package br.com.microservices.orchestrated.sagacommons.tracing;
+
+import java.util.function.Supplier;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+public class SagaTracing {
+
+    public static final String EVENT_DECODE = "saga.event.decode";
+
+    private final ObservationRegistry observationRegistry;
+
+    public SagaTracing(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    public <T> T observe(String name, String topic, Supplier<T> action) {
+        return Observation
+                .createNotStarted(name, observationRegistry)
+                .lowCardinalityKeyValue("topic", topic)
+                .observe(action);
+    }
+
+    public void observe(String name, String topic, Runnable action) {
+        Observation
+                .createNotStarted(name, observationRegistry)
+                .lowCardinalityKeyValue("topic", topic)
+                .observe(action);
+    }
+
+}